@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures flushing a large number of inserts through {@code BatchImpl},
+ * with and without JDBC batching and insert ordering.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BatchExecutionBenchmark {
+	@Param( { "1", "50" } )
+	int batchSize;
+
+	@Param( { "false", "true" } )
+	boolean orderInserts;
+
+	@Param( { "1000" } )
+	int authorCount;
+
+	@Param( { "5" } )
+	int booksPerAuthor;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"batch",
+				Map.of(
+						AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ),
+						AvailableSettings.ORDER_INSERTS, Boolean.toString( orderInserts )
+				)
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		sessionFactory.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 0; i < authorCount; i++ ) {
+					final Author author = new Author( "Author " + i, "CZ" );
+					session.persist( author );
+					for ( int j = 0; j < booksPerAuthor; j++ ) {
+						session.persist( BenchmarkSessionFactory.newBook( author, i * booksPerAuthor + j ) );
+					}
+				}
+				session.flush();
+			}
+			finally {
+				// keep the tables empty between invocations
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.orm.benchmark.model.Department;
+import org.hibernate.orm.benchmark.model.Employee;
+
+/**
+ * Builds the {@link SessionFactoryImplementor} shared by the benchmarks,
+ * backed by an in-memory H2 database.
+ */
+public final class BenchmarkSessionFactory {
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * Build a SessionFactory over a fresh in-memory database, applying
+	 * the given settings on top of the defaults.
+	 */
+	public static SessionFactoryImplementor build(String databaseName, Map<String, String> settings) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.addAnnotatedClass( Department.class )
+				.addAnnotatedClass( Employee.class )
+				.setProperty( AvailableSettings.URL, "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1" )
+				.setProperty( AvailableSettings.USER, "sa" )
+				.setProperty( AvailableSettings.PASS, "" )
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.setProperty( AvailableSettings.SHOW_SQL, "false" );
+		settings.forEach( configuration::setProperty );
+		return (SessionFactoryImplementor) configuration.buildSessionFactory();
+	}
+
+	/**
+	 * Persist {@code authors} authors with {@code booksPerAuthor} books each.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int authors, int booksPerAuthor) {
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( int i = 0; i < authors; i++ ) {
+				final Author author = new Author( "Author " + i, i % 2 == 0 ? "CZ" : "SK" );
+				session.insert( author );
+				for ( int j = 0; j < booksPerAuthor; j++ ) {
+					session.insert( newBook( author, i * booksPerAuthor + j ) );
+				}
+			}
+		} );
+	}
+
+	public static Book newBook(Author author, int index) {
+		return new Book(
+				"Title " + index,
+				"978-" + index,
+				BigDecimal.valueOf( index % 100, 2 ),
+				LocalDate.of( 2000 + index % 25, 1 + index % 12, 1 + index % 28 ),
+				100 + index % 400,
+				author
+		);
+	}
+}
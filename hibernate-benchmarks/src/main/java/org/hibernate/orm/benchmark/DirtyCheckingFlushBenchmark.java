@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a flush of a session holding many managed entities, of which
+ * only a percentage was modified.  The time is dominated by the dirty
+ * checking done in {@code DefaultFlushEntityEventListener}.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class DirtyCheckingFlushBenchmark {
+	@Param( { "1000", "50000" } )
+	int entityCount;
+
+	@Param( { "0", "10" } )
+	int dirtyPercentage;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+
+	@Setup( Level.Trial )
+	public void setUpTrial() {
+		sessionFactory = BenchmarkSessionFactory.build( "flush", Map.of( "hibernate.jdbc.batch_size", "50" ) );
+		BenchmarkSessionFactory.populate( sessionFactory, entityCount, 0 );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDownTrial() {
+		sessionFactory.close();
+	}
+
+	@Setup( Level.Invocation )
+	public void setUpInvocation() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		final List<Author> authors = session.createSelectionQuery( "from Author", Author.class ).getResultList();
+		final int dirtyCount = authors.size() * dirtyPercentage / 100;
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			authors.get( i ).setCountry( "AT" );
+		}
+	}
+
+	@TearDown( Level.Invocation )
+	public void tearDownInvocation() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
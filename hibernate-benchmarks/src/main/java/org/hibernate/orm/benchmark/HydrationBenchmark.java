@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hydration of query results, i.e. the work done by
+ * {@code StandardRowReader} and the {@code EntityInitializerImpl}s
+ * for plain and join fetched entities.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class HydrationBenchmark {
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param( { "100", "10000" } )
+	int rowCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "hydration", Map.of() );
+		BenchmarkSessionFactory.populate( sessionFactory, rowCount / BOOKS_PER_AUTHOR, BOOKS_PER_AUTHOR );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Book", Book.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Book> entitiesWithJoinFetch() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Book b join fetch b.author", Book.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Book> entitiesReadOnly() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Book b join fetch b.author", Book.class )
+						.setReadOnly( true )
+						.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "select b.id, b.title, b.price, b.published from Book b", Object[].class )
+						.getResultList()
+		);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Department;
+import org.hibernate.orm.benchmark.model.Employee;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sorting the queued inserts of a flush with {@code hibernate.order_inserts},
+ * for interleaved inserts of authors and their books, and optionally of departments
+ * and their employees, whose entity types depend on each other.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class InsertOrderingBenchmark {
+	@Param( { "1000", "20000" } )
+	int authorCount;
+
+	@Param( { "5" } )
+	int booksPerAuthor;
+
+	@Param( { "false", "true" } )
+	boolean circular;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"ordering",
+				Map.of( AvailableSettings.ORDER_INSERTS, "true" )
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup( Level.Invocation )
+	public void queueInserts() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		Employee manager = null;
+		for ( int i = 0; i < authorCount; i++ ) {
+			final Author author = new Author( "Author " + i, "CZ" );
+			session.persist( author );
+			for ( int j = 0; j < booksPerAuthor; j++ ) {
+				session.persist( BenchmarkSessionFactory.newBook( author, i * booksPerAuthor + j ) );
+			}
+			if ( circular ) {
+				// managed by an employee of the previous department
+				final Department department = new Department( "Department " + i, manager );
+				session.persist( department );
+				for ( int j = 0; j < booksPerAuthor; j++ ) {
+					manager = new Employee( "Employee " + j, department );
+					session.persist( manager );
+				}
+			}
+		}
+	}
+
+	@TearDown( Level.Invocation )
+	public void discardInserts() {
+		// nothing was flushed
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void sortInserts() {
+		session.getActionQueue().sortActions();
+	}
+}
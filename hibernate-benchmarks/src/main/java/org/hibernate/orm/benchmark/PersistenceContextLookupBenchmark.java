@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link EntityKey} lookups against the
+ * {@code StatefulPersistenceContext} of a session holding
+ * a large number of managed entities, along with the
+ * creation of entity keys and second-level cache keys.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PersistenceContextLookupBenchmark {
+	@Param( { "1000", "100000" } )
+	int entityCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+	private EntityPersister persister;
+	private EntityKey[] keys;
+	private int position;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "pc_lookup", Map.of() );
+		BenchmarkSessionFactory.populate( sessionFactory, entityCount, 0 );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		persistenceContext = session.getPersistenceContextInternal();
+
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Author.class );
+		final List<Author> authors = session.createSelectionQuery( "from Author", Author.class ).getResultList();
+		keys = new EntityKey[authors.size()];
+		for ( int i = 0; i < keys.length; i++ ) {
+			// use freshly created keys, as a lookup by id would
+			keys[i] = session.generateEntityKey( authors.get( i ).getId(), persister );
+		}
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object getEntity() {
+		final EntityKey key = keys[position];
+		if ( ++position == keys.length ) {
+			position = 0;
+		}
+		return persistenceContext.getEntity( key );
+	}
+
+	@Benchmark
+	public Object getEntityHolder() {
+		final EntityKey key = keys[position];
+		if ( ++position == keys.length ) {
+			position = 0;
+		}
+		return persistenceContext.getEntityHolder( key );
+	}
+
+	@Benchmark
+	public Object findManaged() {
+		final EntityKey key = keys[position];
+		if ( ++position == keys.length ) {
+			position = 0;
+		}
+		return session.find( Author.class, key.getIdentifier() );
+	}
+
+	@Benchmark
+	public Object getEntityByNewKey() {
+		final EntityKey key = keys[position];
+		if ( ++position == keys.length ) {
+			position = 0;
+		}
+		return persistenceContext.getEntity( session.generateEntityKey( key.getIdentifier(), persister ) );
+	}
+
+	@Benchmark
+	public Object createCacheKey() {
+		final EntityKey key = keys[position];
+		if ( ++position == keys.length ) {
+			position = 0;
+		}
+		return DefaultCacheKeysFactory.staticCreateEntityKey( key.getIdentifier(), persister, sessionFactory, null );
+	}
+}
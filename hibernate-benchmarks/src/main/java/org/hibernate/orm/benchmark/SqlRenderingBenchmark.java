@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of SQL AST trees to SQL by
+ * {@code AbstractSqlAstTranslator}, and the complete
+ * HQL to SQL interpretation with the query plan cache disabled.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class SqlRenderingBenchmark {
+	@Param( { "1", "16" } )
+	int numberOfKeys;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SqlAstTranslatorFactory translatorFactory;
+	private SelectStatement loadStatement;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"rendering",
+				Map.of( AvailableSettings.QUERY_PLAN_CACHE_ENABLED, "false" )
+		);
+		translatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		loadStatement = LoaderSelectBuilder.createSelect(
+				persister,
+				null,
+				persister.getIdentifierMapping(),
+				null,
+				numberOfKeys,
+				new LoadQueryInfluencers( sessionFactory ),
+				LockOptions.NONE,
+				jdbcParameter -> {},
+				sessionFactory
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect renderLoadStatement() {
+		return translatorFactory.buildSelectTranslator( sessionFactory, loadStatement )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+
+	@Benchmark
+	public Object interpretHql() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery(
+								"select b from Book b join fetch b.author a where a.country = :country and b.price > :price order by b.title",
+								Book.class
+						)
+						.setParameter( "country", "CZ" )
+						.setParameter( "price", BigDecimal.ONE )
+						.setMaxResults( 1 )
+						.getResultList()
+		);
+	}
+}
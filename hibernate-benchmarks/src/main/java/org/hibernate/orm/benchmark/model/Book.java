@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+@Entity
+public class Book {
+	@Id
+	@GeneratedValue( generator = "book_seq" )
+	@SequenceGenerator( name = "book_seq", allocationSize = 50 )
+	private Long id;
+	private String title;
+	private String isbn;
+	private BigDecimal price;
+	private LocalDate published;
+	private int pages;
+	@ManyToOne( fetch = FetchType.LAZY )
+	private Author author;
+
+	protected Book() {
+	}
+
+	public Book(String title, String isbn, BigDecimal price, LocalDate published, int pages, Author author) {
+		this.title = title;
+		this.isbn = isbn;
+		this.price = price;
+		this.published = published;
+		this.pages = pages;
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public void setPrice(BigDecimal price) {
+		this.price = price;
+	}
+
+	public LocalDate getPublished() {
+		return published;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * References an {@link Employee}, which references a {@code Department} in turn,
+ * so that the two entity types depend on each other.
+ */
+@Entity
+public class Department {
+	@Id
+	@GeneratedValue( generator = "department_seq" )
+	@SequenceGenerator( name = "department_seq", allocationSize = 50 )
+	private Long id;
+	private String name;
+	@ManyToOne( fetch = FetchType.LAZY )
+	private Employee manager;
+
+	protected Department() {
+	}
+
+	public Department(String name, Employee manager) {
+		this.name = name;
+		this.manager = manager;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Employee getManager() {
+		return manager;
+	}
+
+	public void setManager(Employee manager) {
+		this.manager = manager;
+	}
+}
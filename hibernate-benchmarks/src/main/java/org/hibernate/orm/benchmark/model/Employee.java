@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+@Entity
+public class Employee {
+	@Id
+	@GeneratedValue( generator = "employee_seq" )
+	@SequenceGenerator( name = "employee_seq", allocationSize = 50 )
+	private Long id;
+	private String name;
+	@ManyToOne( fetch = FetchType.LAZY )
+	private Department department;
+
+	protected Employee() {
+	}
+
+	public Employee(String name, Department department) {
+		this.name = name;
+		this.department = department;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Department getDepartment() {
+		return department;
+	}
+}
@@ -102,6 +102,11 @@ public interface StatelessSession extends SharedSessionContract {
 
 	/**
 	 * Insert multiple records.
+	 * <p>
+	 * If {@value org.hibernate.cfg.AvailableSettings#ORDER_INSERTS} is enabled, the
+	 * instances are grouped by entity type, and the entity types are ordered according
+	 * to the foreign keys between them, so that each entity type is inserted using a
+	 * single JDBC batch.
 	 *
 	 * @param entities a list of transient instances to be inserted
 	 *
@@ -135,6 +140,10 @@ public interface StatelessSession extends SharedSessionContract {
 
 	/**
 	 * Update multiple records.
+	 * <p>
+	 * If {@value org.hibernate.cfg.AvailableSettings#ORDER_UPDATES} is enabled, the
+	 * instances are grouped by entity type, so that each entity type is updated using
+	 * a single JDBC batch.
 	 *
 	 * @param entities a list of detached instances to be updated
 	 *
@@ -209,10 +209,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean columnarQueryCacheEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -419,6 +421,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( QUERY_CACHE_LAYOUT,
 							value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 							CacheLayout.FULL );
+			columnarQueryCacheEnabled =
+					configurationService.getSetting( USE_COLUMNAR_QUERY_CACHE, BOOLEAN, false );
 			timestampsCacheFactory =
 					strategySelector.resolveDefaultableStrategy( TimestampsCacheFactory.class,
 							settings.get( QUERY_CACHE_FACTORY ), StandardTimestampsCacheFactory.INSTANCE );
@@ -426,6 +430,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( USE_MINIMAL_PUTS, BOOLEAN, regionFactory.isMinimalPutsEnabledByDefault() );
 			structuredCacheEntriesEnabled =
 					configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			compactCacheEntriesEnabled =
+					configurationService.getSetting( USE_COMPACT_CACHE, BOOLEAN, false );
 			directReferenceCacheEntriesEnabled =
 					configurationService.getSetting( USE_DIRECT_REFERENCE_CACHE_ENTRIES, BOOLEAN, false );
 			autoEvictCollectionCache =
@@ -435,10 +441,12 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
+			columnarQueryCacheEnabled = false;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
 			structuredCacheEntriesEnabled = false;
+			compactCacheEntriesEnabled = false;
 			directReferenceCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
 		}
@@ -1011,6 +1019,11 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isColumnarQueryCacheEnabled() {
+		return columnarQueryCacheEnabled;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1031,6 +1044,11 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
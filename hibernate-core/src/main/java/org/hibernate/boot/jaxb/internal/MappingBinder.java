@@ -4,6 +4,8 @@
  */
 package org.hibernate.boot.jaxb.internal;
 
+import java.io.File;
+import java.io.InputStream;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.xml.stream.XMLEventFactory;
@@ -56,6 +58,18 @@ public class MappingBinder extends AbstractBinder<JaxbBindableMappingDescriptor>
 
 	public interface Options {
 		boolean validateMappings();
+
+		/**
+		 * The directory in which the bindings of mapping documents are cached,
+		 * or {@code null} if they are not cached.
+		 *
+		 * @see XmlParseCache
+		 *
+		 * @since 7.0
+		 */
+		default @Nullable File cacheDirectory() {
+			return null;
+		}
 	}
 
 	public static final Options VALIDATING = new Options() {
@@ -111,6 +125,15 @@ public boolean validateMappings() {
 					}
 					return BOOLEAN.convert( setting );
 				}
+
+				@Override
+				public @Nullable File cacheDirectory() {
+					final Object setting = settingsAccess.apply( AvailableSettings.XML_PARSE_CACHE_DIRECTORY );
+					if ( setting == null ) {
+						return null;
+					}
+					return setting instanceof File file ? file : new File( setting.toString() );
+				}
 			};
 		}
 	}
@@ -156,6 +179,18 @@ public boolean isValidationEnabled() {
 		return optionsAccess.get().validateMappings();
 	}
 
+	@Override
+	public <X extends JaxbBindableMappingDescriptor> Binding<X> bind(InputStream stream, Origin origin) {
+		final Options options = optionsAccess.get();
+		final File cacheDirectory = options.cacheDirectory();
+		if ( cacheDirectory == null ) {
+			return super.bind( stream, origin );
+		}
+		else {
+			return new XmlParseCache( cacheDirectory, options ).bind( stream, origin, super::bind );
+		}
+	}
+
 	@Override
 	protected <X extends JaxbBindableMappingDescriptor> Binding<X> doBind(
 			XMLEventReader staxEventReader,
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.jaxb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.hibernate.Version;
+import org.hibernate.boot.MappingException;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.spi.JaxbBindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Cache of the JAXB bindings of mapping XML documents, stored in a directory as
+ * serialized files named after a hash of the content of the document, of the
+ * Hibernate version and of the {@linkplain MappingBinder.Options binder options}.
+ * A document whose content has not changed since the previous start is read back
+ * from its cached binding, instead of being parsed and bound again.  The binding is
+ * then processed into the boot metamodel like any other, so this only saves the
+ * parsing of the XML, not the rest of the metadata building.
+ * <p>
+ * Only the JAXB binding classes, together with the enums, strings, numbers and
+ * collections they hold, may be read from a cached file.
+ * <p>
+ * Unlike the {@linkplain CacheableFileXmlSource cacheable files}, this applies to
+ * mapping documents of any origin, and does not depend on file timestamps.
+ *
+ * @see org.hibernate.cfg.MappingSettings#XML_PARSE_CACHE_DIRECTORY
+ *
+ * @since 7.0
+ */
+public class XmlParseCache {
+	private static final Logger log = Logger.getLogger( XmlParseCache.class );
+
+	private static final String SUFFIX = ".bin";
+
+	// the packages of the classes, other than the JAXB bindings, found in a cached binding
+	private static final Set<String> ALLOWED_PACKAGES = Set.of( "java.lang", "java.math", "java.util" );
+
+	private final Path directory;
+	private final boolean validateMappings;
+
+	public XmlParseCache(File directory, MappingBinder.Options options) {
+		this.directory = directory.toPath();
+		this.validateMappings = options.validateMappings();
+	}
+
+	/**
+	 * Bind the document read from the given stream, using its cached binding if there is one,
+	 * or using the given binder and caching the resulting binding otherwise.
+	 */
+	public <X> Binding<X> bind(InputStream stream, Origin origin, BiFunction<InputStream, Origin, Binding<X>> binder) {
+		final byte[] content;
+		try {
+			content = stream.readAllBytes();
+		}
+		catch (IOException e) {
+			throw new MappingException( "Unable to read mapping document", e, origin );
+		}
+
+		final Path cachedFile = directory.resolve( key( content ) + SUFFIX );
+		if ( Files.isRegularFile( cachedFile ) ) {
+			try ( ObjectInputStream input =
+						new ObjectInputStream( new BufferedInputStream( Files.newInputStream( cachedFile ) ) ) ) {
+				input.setObjectInputFilter( XmlParseCache::checkBindingClass );
+				log.debugf( "Reading cached binding of mapping document %s from %s", origin, cachedFile );
+				final Object root = input.readObject();
+				if ( root instanceof JaxbBindableMappingDescriptor ) {
+					//noinspection unchecked
+					return new Binding<>( (X) root, origin );
+				}
+			}
+			catch (IOException | ClassNotFoundException e) {
+				log.debugf( e, "Unable to read cached binding of mapping document %s from %s", origin, cachedFile );
+			}
+		}
+
+		final Binding<X> binding = binder.apply( new ByteArrayInputStream( content ), origin );
+		write( binding, origin, cachedFile );
+		return binding;
+	}
+
+	private void write(Binding<?> binding, Origin origin, Path cachedFile) {
+		try {
+			Files.createDirectories( directory );
+			// write to a temporary file first, so that no other process ever reads a partially written file
+			final Path temporaryFile = Files.createTempFile( directory, cachedFile.getFileName().toString(), null );
+			try {
+				try ( OutputStream output = Files.newOutputStream( temporaryFile ) ) {
+					SerializationHelper.serialize( (Serializable) binding.getRoot(), output );
+				}
+				Files.move( temporaryFile, cachedFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				log.debugf( "Wrote cached binding of mapping document %s to %s", origin, cachedFile );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+		}
+		catch (IOException | SerializationException e) {
+			log.warnf( "Unable to write cached binding of mapping document %s to %s: %s", origin, cachedFile, e.getMessage() );
+		}
+	}
+
+	private static ObjectInputFilter.Status checkBindingClass(ObjectInputFilter.FilterInfo filterInfo) {
+		Class<?> serialClass = filterInfo.serialClass();
+		if ( serialClass == null ) {
+			return ObjectInputFilter.Status.UNDECIDED;
+		}
+		while ( serialClass.isArray() ) {
+			serialClass = serialClass.getComponentType();
+		}
+		final String packageName = serialClass.getPackageName();
+		return serialClass.isPrimitive()
+				|| Enum.class.isAssignableFrom( serialClass )
+				|| packageName.startsWith( "org.hibernate.boot.jaxb." )
+				|| ALLOWED_PACKAGES.contains( packageName )
+				? ObjectInputFilter.Status.ALLOWED
+				: ObjectInputFilter.Status.REJECTED;
+	}
+
+	private String key(byte[] content) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			// bindings written by another version of Hibernate might not be compatible
+			digest.update( Version.getVersionString().getBytes( StandardCharsets.UTF_8 ) );
+			digest.update( (byte) 0 );
+			// a binding which was not validated must not be used when validation is enabled
+			digest.update( (byte) ( validateMappings ? 1 : 0 ) );
+			digest.update( content );
+			return HexFormat.of().formatHex( digest.digest() );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( "SHA-256 is not available", e );
+		}
+	}
+}
@@ -264,6 +264,11 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isColumnarQueryCacheEnabled() {
+		return delegate.isColumnarQueryCacheEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -284,6 +289,11 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -260,6 +260,15 @@ default boolean isAllowRefreshDetachedEntity() {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_COLUMNAR_QUERY_CACHE
+	 *
+	 * @since 7.0
+	 */
+	default boolean isColumnarQueryCacheEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY
 	 */
@@ -280,6 +289,15 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE
+	 *
+	 * @since 7.0
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES
 	 */
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_ASYNC_INVALIDATION;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+
+/**
+ * Implementation of the TimestampsCacheFactory interface returning instances of
+ * {@link BatchingTimestampsCacheImpl}, which write the timestamps of all the spaces
+ * invalidated by a transaction using a single multi-key put.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ASYNC_INVALIDATION
+ *
+ * @since 7.0
+ */
+public class BatchingTimestampsCacheFactory implements TimestampsCacheFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final BatchingTimestampsCacheFactory INSTANCE = new BatchingTimestampsCacheFactory();
+
+	@Override
+	public TimestampsCache buildTimestampsCache(
+			CacheImplementor cacheManager,
+			TimestampsRegion timestampsRegion) {
+		final SessionFactoryImplementor sessionFactory = cacheManager.getSessionFactory();
+		return new BatchingTimestampsCacheImpl(
+				timestampsRegion,
+				cacheManager.getRegionFactory(),
+				sessionFactory.getStatistics(),
+				getBoolean( QUERY_CACHE_ASYNC_INVALIDATION, sessionFactory.getProperties(), false )
+		);
+	}
+}
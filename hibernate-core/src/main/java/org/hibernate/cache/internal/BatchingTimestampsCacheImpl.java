@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Implementation of TimestampsCache writing the timestamps of all the spaces invalidated
+ * together using a single {@linkplain TimestampsRegion#putAllIntoCache multi-key put},
+ * instead of one put per space.
+ * <p>
+ * Optionally, the invalidation performed after the completion of a transaction is written
+ * asynchronously, coalesced with the invalidations of other transactions.  This is safe,
+ * since every space invalidated by a transaction has been pre-invalidated, synchronously,
+ * with a timestamp in the future, before the completion of the transaction, and so query
+ * results involving the space are not considered up to date until the invalidation has
+ * been written, or the pre-invalidation has expired.
+ * <p>
+ * An asynchronous invalidation is written outside of any session, and so it is neither
+ * reported to the {@link EventMonitor} as a cache put, nor to the
+ * {@linkplain org.hibernate.SessionEventListener#cachePutStart session event listeners}.
+ * It is still counted by the {@linkplain StatisticsImplementor#updateTimestampsCachePut
+ * statistics}.
+ *
+ * @see BatchingTimestampsCacheFactory
+ */
+public class BatchingTimestampsCacheImpl extends TimestampsCacheEnabledImpl {
+	private static final Logger log = Logger.getLogger( BatchingTimestampsCacheImpl.class );
+
+	private final RegionFactory regionFactory;
+	private final StatisticsImplementor statistics;
+
+	// the state of asynchronous invalidation, null when invalidations are synchronous
+	private final ExecutorService executor;
+	private final Map<String, Long> pendingInvalidations = new ConcurrentHashMap<>();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	// orders the writes of pending invalidations and of pre-invalidations
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	public BatchingTimestampsCacheImpl(
+			TimestampsRegion timestampsRegion,
+			RegionFactory regionFactory,
+			StatisticsImplementor statistics,
+			boolean asynchronous) {
+		super( timestampsRegion );
+		this.regionFactory = regionFactory;
+		this.statistics = statistics;
+		this.executor = asynchronous ? Executors.newSingleThreadExecutor( BatchingTimestampsCacheImpl::newThread ) : null;
+	}
+
+	private static Thread newThread(Runnable runnable) {
+		final Thread thread = new Thread( runnable, "Hibernate timestamps cache invalidation" );
+		thread.setDaemon( true );
+		return thread;
+	}
+
+	@Override
+	public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+		final Long ts = regionFactory.nextTimestamp() + regionFactory.getTimeout();
+		if ( executor == null ) {
+			putTimestamps( spaces, ts, session, EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE );
+		}
+		else {
+			writeLock.lock();
+			try {
+				// a pending invalidation must never overwrite the pre-invalidation
+				for ( String space : spaces ) {
+					pendingInvalidations.remove( space );
+				}
+				putTimestamps( spaces, ts, session, EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE );
+			}
+			finally {
+				writeLock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+		final Long ts = regionFactory.nextTimestamp();
+		if ( executor == null ) {
+			putTimestamps( spaces, ts, session, EventMonitor.CacheActionDescription.TIMESTAMP_INVALIDATE );
+		}
+		else if ( spaces.length > 0 ) {
+			for ( String space : spaces ) {
+				pendingInvalidations.merge( space, ts, Math::max );
+			}
+			if ( flushScheduled.compareAndSet( false, true ) ) {
+				executor.execute( this::flushPendingInvalidations );
+			}
+		}
+	}
+
+	private void putTimestamps(
+			String[] spaces,
+			Long ts,
+			SharedSessionContractImplementor session,
+			EventMonitor.CacheActionDescription description) {
+		if ( spaces.length == 0 ) {
+			return;
+		}
+
+		final Map<String, Long> timestamps = new HashMap<>( spaces.length * 2 );
+		for ( String space : spaces ) {
+			if ( DEBUG_ENABLED ) {
+				log.debugf( "%s space [%s], timestamp: %s", description.getText(), space, ts );
+			}
+			timestamps.put( space, ts );
+		}
+
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
+		try {
+			session.getEventListenerManager().cachePutStart();
+			getRegion().putAllIntoCache( timestamps, session );
+		}
+		finally {
+			eventMonitor.completeCachePutEvent( cachePutEvent, session, getRegion(), true, description );
+			session.getEventListenerManager().cachePutEnd();
+		}
+		countPuts( timestamps.size() );
+	}
+
+	private void flushPendingInvalidations() {
+		flushScheduled.set( false );
+		writeLock.lock();
+		try {
+			final Map<String, Long> timestamps = new HashMap<>();
+			for ( String space : pendingInvalidations.keySet() ) {
+				final Long ts = pendingInvalidations.remove( space );
+				if ( ts != null ) {
+					timestamps.put( space, ts );
+				}
+			}
+			if ( !timestamps.isEmpty() ) {
+				if ( DEBUG_ENABLED ) {
+					log.debugf( "Invalidating spaces asynchronously: %s", timestamps );
+				}
+				// the session which scheduled the invalidation might be closed by now,
+				// so there is no event monitor nor session event listener to notify
+				getRegion().putAllIntoCache( timestamps, null );
+				countPuts( timestamps.size() );
+			}
+		}
+		catch (RuntimeException e) {
+			// the spaces remain pre-invalidated until their pre-invalidation expires
+			log.warn( "Unable to invalidate spaces in the timestamps cache", e );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private void countPuts(int count) {
+		if ( statistics.isStatisticsEnabled() ) {
+			for ( int i = 0; i < count; i++ ) {
+				statistics.updateTimestampsCachePut();
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if ( executor != null ) {
+			executor.shutdown();
+			try {
+				if ( !executor.awaitTermination( 10, TimeUnit.SECONDS ) ) {
+					log.debug( "Timed out waiting for pending invalidations of the timestamps cache" );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		super.destroy();
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * Serializes the values stored in second-level cache regions to a compact binary form.
+ * <p>
+ * The {@linkplain StandardCacheEntryImpl disassembled state of entities}, the
+ * {@linkplain CollectionCacheEntry state of collections}, the read-write
+ * {@linkplain AbstractReadWriteAccess.Item items} wrapping them, and the values of the
+ * most common basic types are written field by field, using a single tag byte to
+ * identify the type of each value.  Any other value is written using Java serialization.
+ *
+ * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+ */
+public final class CompactCacheValueSerializer {
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte LONG = 2;
+	private static final byte INTEGER = 3;
+	private static final byte SHORT = 4;
+	private static final byte BYTE = 5;
+	private static final byte TRUE = 6;
+	private static final byte FALSE = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte FLOAT = 9;
+	private static final byte CHARACTER = 10;
+	private static final byte BYTES = 11;
+	private static final byte OBJECT_ARRAY = 12;
+	private static final byte SERIALIZABLE_ARRAY = 13;
+	private static final byte ENTITY_ENTRY = 14;
+	private static final byte COLLECTION_ENTRY = 15;
+	private static final byte READ_WRITE_ITEM = 16;
+	private static final byte SERIALIZED = 17;
+
+	private CompactCacheValueSerializer() {
+	}
+
+	static byte[] serialize(Object value) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 128 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			write( value, output );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not serialize cached value", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	static Object deserialize(byte[] bytes) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			return read( input );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not deserialize cached value", e );
+		}
+	}
+
+	/**
+	 * Write the given value, preceded by the tag identifying its type.
+	 */
+	public static void write(Object value, DataOutputStream output) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value instanceof String string ) {
+			output.writeByte( STRING );
+			writeBytes( string.getBytes( StandardCharsets.UTF_8 ), output );
+		}
+		else if ( value instanceof Long longValue ) {
+			output.writeByte( LONG );
+			output.writeLong( longValue );
+		}
+		else if ( value instanceof Integer integer ) {
+			output.writeByte( INTEGER );
+			output.writeInt( integer );
+		}
+		else if ( value instanceof Short shortValue ) {
+			output.writeByte( SHORT );
+			output.writeShort( shortValue );
+		}
+		else if ( value instanceof Byte byteValue ) {
+			output.writeByte( BYTE );
+			output.writeByte( byteValue );
+		}
+		else if ( value instanceof Boolean bool ) {
+			output.writeByte( bool ? TRUE : FALSE );
+		}
+		else if ( value instanceof Double doubleValue ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( doubleValue );
+		}
+		else if ( value instanceof Float floatValue ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( floatValue );
+		}
+		else if ( value instanceof Character character ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( character );
+		}
+		else if ( value instanceof byte[] byteArray ) {
+			output.writeByte( BYTES );
+			writeBytes( byteArray, output );
+		}
+		else if ( value.getClass() == Object[].class ) {
+			output.writeByte( OBJECT_ARRAY );
+			writeArray( (Object[]) value, output );
+		}
+		else if ( value.getClass() == Serializable[].class ) {
+			output.writeByte( SERIALIZABLE_ARRAY );
+			writeArray( (Object[]) value, output );
+		}
+		else if ( value.getClass() == StandardCacheEntryImpl.class ) {
+			final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) value;
+			output.writeByte( ENTITY_ENTRY );
+			writeBytes( entry.getSubclass().getBytes( StandardCharsets.UTF_8 ), output );
+			write( entry.getVersion(), output );
+			write( entry.getDisassembledState(), output );
+		}
+		else if ( value.getClass() == CollectionCacheEntry.class ) {
+			output.writeByte( COLLECTION_ENTRY );
+			write( ( (CollectionCacheEntry) value ).getState(), output );
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item item ) {
+			output.writeByte( READ_WRITE_ITEM );
+			output.writeLong( item.getTimestamp() );
+			write( item.getVersion(), output );
+			write( item.getValue(), output );
+		}
+		else {
+			output.writeByte( SERIALIZED );
+			writeBytes( SerializationHelper.serialize( (Serializable) value ), output );
+		}
+	}
+
+	private static void writeBytes(byte[] bytes, DataOutputStream output) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static void writeArray(Object[] array, DataOutputStream output) throws IOException {
+		output.writeInt( array.length );
+		for ( Object element : array ) {
+			write( element, output );
+		}
+	}
+
+	/**
+	 * Read a value written by {@link #write(Object, DataOutputStream)}.
+	 */
+	public static Object read(DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		return switch ( tag ) {
+			case NULL -> null;
+			case STRING -> new String( readBytes( input ), StandardCharsets.UTF_8 );
+			case LONG -> input.readLong();
+			case INTEGER -> input.readInt();
+			case SHORT -> input.readShort();
+			case BYTE -> input.readByte();
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case DOUBLE -> input.readDouble();
+			case FLOAT -> input.readFloat();
+			case CHARACTER -> input.readChar();
+			case BYTES -> readBytes( input );
+			case OBJECT_ARRAY -> readArray( new Object[input.readInt()], input );
+			case SERIALIZABLE_ARRAY -> readArray( new Serializable[input.readInt()], input );
+			case ENTITY_ENTRY -> {
+				final String subclass = new String( readBytes( input ), StandardCharsets.UTF_8 );
+				final Object version = read( input );
+				final Serializable[] state = (Serializable[]) read( input );
+				yield new StandardCacheEntryImpl( state, subclass, version );
+			}
+			case COLLECTION_ENTRY -> new CollectionCacheEntry( (Serializable) read( input ) );
+			case READ_WRITE_ITEM -> {
+				final long timestamp = input.readLong();
+				final Object version = read( input );
+				final Object value = read( input );
+				yield new AbstractReadWriteAccess.Item( value, version, timestamp );
+			}
+			case SERIALIZED -> SerializationHelper.deserialize( readBytes( input ) );
+			default -> throw new CacheException( "Unexpected tag in serialized cache value: " + tag );
+		};
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+
+	private static Object[] readArray(Object[] array, DataInputStream input) throws IOException {
+		for ( int i = 0; i < array.length; i++ ) {
+			array[i] = read( input );
+		}
+		return array;
+	}
+}
@@ -7,6 +7,7 @@
 import java.io.Serializable;
 
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -56,6 +57,22 @@ public static Object staticCreateCollectionKey(Object id, CollectionPersister pe
 	}
 
 	public static Object staticCreateEntityKey(Object id, EntityPersister persister, SessionFactoryImplementor factory, String tenantIdentifier) {
+		if ( persister.getEntityKeyIdentifierKind() != EntityKey.IdentifierKind.OTHER ) {
+			// the identifier is immutable, is its own disassembled form,
+			// and is hashed by Object.hashCode(): skip the identifier type
+			final int idHashCode = id.hashCode();
+			if ( tenantIdentifier == null ) {
+				return new BasicCacheKeyImplementation( (Serializable) id, persister.getRootEntityName(), idHashCode );
+			}
+			else {
+				return new CacheKeyImplementation(
+						id,
+						persister.getRootEntityName(),
+						tenantIdentifier,
+						31 * idHashCode + tenantIdentifier.hashCode()
+				);
+			}
+		}
 		final Type keyType = persister.getIdentifierType();
 		final Serializable disassembledKey = keyType.disassemble( id, factory );
 		final boolean idIsArray = disassembledKey.getClass().isArray();
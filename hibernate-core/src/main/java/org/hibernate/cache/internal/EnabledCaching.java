@@ -578,6 +578,7 @@ public <T> T unwrap(Class<T> cls) {
 
 	@Override
 	public void close() {
+		timestampsCache.destroy();
 		for ( Region region : regionsByName.values() ) {
 			region.destroy();
 		}
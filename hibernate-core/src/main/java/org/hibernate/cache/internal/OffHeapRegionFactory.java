@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_CACHE_MAX_REGION_SIZE;
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_CACHE_SLAB_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} keeping the cached entity, collection,
+ * natural id and query result data outside the Java heap, and so out of reach of the
+ * garbage collector, which allows caching large amounts of data in a single JVM.
+ * <p>
+ * The memory used by each region is bounded by
+ * {@value org.hibernate.cfg.CacheSettings#OFF_HEAP_CACHE_MAX_REGION_SIZE}.  Update
+ * timestamps are always kept on the heap, since they may never be evicted.
+ *
+ * @see OffHeapStorageAccess
+ *
+ * @since 7.0
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	public static final int DEFAULT_MAX_REGION_SIZE = 64 * 1024 * 1024;
+	public static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+	private final Map<String, Object> configValues = new HashMap<>();
+	private int slabSize;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues.putAll( configValues );
+		this.slabSize = getInt( OFF_HEAP_CACHE_SLAB_SIZE, configValues, DEFAULT_SLAB_SIZE );
+		if ( slabSize <= 0 ) {
+			throw new CacheException( "Invalid off-heap cache slab size: " + slabSize );
+		}
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues.clear();
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private OffHeapStorageAccess createStorageAccess(String regionName) {
+		final String regionMaxSizeSetting = OFF_HEAP_CACHE_MAX_REGION_SIZE + '.' + regionName;
+		final long maxSize = configValues.containsKey( regionMaxSizeSetting )
+				? getLong( regionMaxSizeSetting, configValues, DEFAULT_MAX_REGION_SIZE )
+				: getLong( OFF_HEAP_CACHE_MAX_REGION_SIZE, configValues, DEFAULT_MAX_REGION_SIZE );
+		if ( maxSize <= 0 ) {
+			throw new CacheException( "Invalid maximum size for off-heap cache region '" + regionName + "': " + maxSize );
+		}
+		return new OffHeapStorageAccess( regionName, maxSize, slabSize );
+	}
+
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final ConcurrentHashMap<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * {@link DomainDataStorageAccess} keeping the cached values outside the Java heap, in
+ * direct {@link ByteBuffer} slabs of fixed size, where they are stored in their
+ * {@linkplain CompactCacheValueSerializer compact serialized form}.  Only the keys,
+ * and the location of the value of each key, are kept on the heap.
+ * <p>
+ * Values are appended to the current slab.  When the memory allotted to the region is
+ * exhausted, the oldest slab is recycled, evicting all the values it contains, so that
+ * the eviction policy is first in, first out, at the granularity of a slab.  Values
+ * which are replaced or removed keep using space in their slab until it is recycled.
+ *
+ * @see OffHeapRegionFactory
+ */
+final class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private final String regionName;
+	private final int slabSize;
+	private final Slab[] slabs;
+	private final ConcurrentHashMap<Object, Location> locations = new ConcurrentHashMap<>();
+
+	// serializes writers
+	private final ReentrantLock writeLock = new ReentrantLock();
+	// taken exclusively while a slab is recycled, so that readers never see recycled bytes
+	private final StampedLock recycleLock = new StampedLock();
+
+	private int currentSlab;
+	private int currentPosition;
+
+	/**
+	 * @param maxSize the maximum number of bytes used by the values of the region
+	 * @param slabSize the size of each slab, in bytes
+	 */
+	OffHeapStorageAccess(String regionName, long maxSize, int slabSize) {
+		this.regionName = regionName;
+		this.slabSize = slabSize;
+		this.slabs = new Slab[(int) Math.max( 2, Math.min( Integer.MAX_VALUE, maxSize / slabSize ) )];
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes = readBytes( key );
+		return bytes == null ? null : CompactCacheValueSerializer.deserialize( bytes );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] bytes = CompactCacheValueSerializer.serialize( value );
+		if ( bytes.length > slabSize ) {
+			L2CACHE_LOGGER.debugf(
+					"Value of %s bytes exceeds the slab size of off-heap region `%s`, not caching it",
+					bytes.length,
+					regionName
+			);
+			locations.remove( key );
+			return;
+		}
+		writeLock.lock();
+		try {
+			if ( currentPosition + bytes.length > slabSize || slabs[currentSlab] == null ) {
+				advanceSlab();
+			}
+			final Slab slab = slabs[currentSlab];
+			slab.buffer.put( currentPosition, bytes );
+			slab.keys.add( key );
+			locations.put( key, new Location( slab, currentPosition, bytes.length ) );
+			currentPosition += bytes.length;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private void advanceSlab() {
+		if ( slabs[currentSlab] != null ) {
+			currentSlab = ( currentSlab + 1 ) % slabs.length;
+		}
+		currentPosition = 0;
+		final Slab slab = slabs[currentSlab];
+		if ( slab == null ) {
+			// allocate lazily, so that sparsely used regions don't reserve their whole size
+			slabs[currentSlab] = new Slab( ByteBuffer.allocateDirect( slabSize ) );
+		}
+		else {
+			final long stamp = recycleLock.writeLock();
+			try {
+				for ( Object key : slab.keys ) {
+					final Location location = locations.get( key );
+					if ( location != null && location.slab == slab ) {
+						locations.remove( key, location );
+					}
+				}
+				slab.keys.clear();
+			}
+			finally {
+				recycleLock.unlockWrite( stamp );
+			}
+		}
+	}
+
+	private byte[] readBytes(Object key) {
+		long stamp = recycleLock.tryOptimisticRead();
+		Location location = locations.get( key );
+		if ( location == null ) {
+			return null;
+		}
+		byte[] bytes = location.copy();
+		if ( !recycleLock.validate( stamp ) ) {
+			// a slab was recycled meanwhile, read again under the lock
+			stamp = recycleLock.readLock();
+			try {
+				location = locations.get( key );
+				if ( location == null ) {
+					return null;
+				}
+				bytes = location.copy();
+			}
+			finally {
+				recycleLock.unlockRead( stamp );
+			}
+		}
+		return bytes;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return locations.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		locations.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		locations.remove( key );
+	}
+
+	@Override
+	public void release() {
+		writeLock.lock();
+		try {
+			locations.clear();
+			// the direct buffers are freed once they are garbage collected
+			for ( int i = 0; i < slabs.length; i++ ) {
+				slabs[i] = null;
+			}
+			currentSlab = 0;
+			currentPosition = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private static final class Slab {
+		private final ByteBuffer buffer;
+		// the keys of the values written to the slab, some of which may since have been replaced
+		private final List<Object> keys = new ArrayList<>();
+
+		private Slab(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+	}
+
+	private record Location(Slab slab, int offset, int length) {
+		private byte[] copy() {
+			final byte[] bytes = new byte[length];
+			slab.buffer.get( offset, bytes );
+			return bytes;
+		}
+	}
+}
@@ -17,6 +17,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.sql.results.caching.internal.ColumnarCachedResults;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -58,7 +59,8 @@ public boolean put(
 
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
+				// columnar results are immutable
+				results instanceof ColumnarCachedResults ? results : deepCopy( results )
 		);
 
 		final EventMonitor eventMonitor = session.getEventMonitor();
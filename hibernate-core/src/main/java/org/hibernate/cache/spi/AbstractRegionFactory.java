@@ -7,6 +7,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
@@ -24,6 +26,11 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 
 	private final AtomicBoolean started = new AtomicBoolean( false );
 
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+
 	/**
 	 * Legacy names that used to be the default for the query results region.
 	 */
@@ -81,7 +88,8 @@ protected SessionFactoryOptions getOptions() {
 	@Override
 	public final void start(SessionFactoryOptions settings, Map<String,Object> configValues) throws CacheException {
 		if ( started.compareAndSet( false, true ) ) {
-			synchronized (this) {
+			lock.lock();
+			try {
 				this.options = settings;
 				try {
 					prepareForUse( settings, configValues );
@@ -93,6 +101,9 @@ public final void start(SessionFactoryOptions settings, Map<String,Object> confi
 					startingException = e;
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			L2CACHE_LOGGER.attemptToStartAlreadyStartedCacheProvider();
@@ -104,14 +115,14 @@ public final void start(SessionFactoryOptions settings, Map<String,Object> confi
 	@Override
 	public final void stop() {
 		if ( started.compareAndSet( true, false ) ) {
-			synchronized ( this ) {
-				try {
-					releaseFromUse();
-				}
-				finally {
-					options = null;
-					startingException = null;
-				}
+			lock.lock();
+			try {
+				releaseFromUse();
+			}
+			finally {
+				options = null;
+				startingException = null;
+				lock.unlock();
 			}
 		}
 		else {
@@ -4,6 +4,8 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -25,4 +27,15 @@ public interface DirectAccessRegion extends Region {
 	 * Put a value by key
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
+
+	/**
+	 * Put several items into the cache, using a single operation if the cache supports it
+	 *
+	 * @since 7.0
+	 */
+	default void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : values.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
 }
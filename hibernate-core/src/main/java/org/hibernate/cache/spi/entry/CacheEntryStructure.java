@@ -27,7 +27,8 @@ public interface CacheEntryStructure {
 	 * @param structured The structured form.
 	 * @param factory The session factory.
 	 *
-	 * @return The item
+	 * @return The item, or {@code null} if the structured form is obsolete and should be
+	 *         treated as a cache miss
 	 */
 	Object destructure(Object structured, SessionFactoryImplementor factory);
 }
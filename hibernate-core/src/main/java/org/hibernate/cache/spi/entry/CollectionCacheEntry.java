@@ -6,6 +6,7 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Internal;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -28,7 +29,8 @@ public CollectionCacheEntry(PersistentCollection<?> collection, CollectionPersis
 		this.state = collection.disassemble( persister );
 	}
 
-	CollectionCacheEntry(Serializable state) {
+	@Internal
+	public CollectionCacheEntry(Serializable state) {
 		this.state = state;
 	}
 
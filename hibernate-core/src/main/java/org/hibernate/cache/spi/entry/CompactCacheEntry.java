@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.CompactCacheValueSerializer;
+import org.hibernate.cache.spi.entry.CompactStateCodec.ValueCodec;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Compact binary CacheEntry format for entities.  Used to store the entry into the
+ * second-level cache as a {@code byte[]}, which is much smaller, and much cheaper to
+ * produce, than the Java serialization of a {@link StandardCacheEntryImpl}.  This is
+ * useful when the cache is distributed.
+ * <p>
+ * The values of the attributes are written one after the other, each encoded according
+ * to the type of the attribute, following a <em>schema id</em> which identifies the
+ * entity and the names and types of its attributes.  An entry written with a schema id
+ * not matching the current mapping of the entity, for example by another node running
+ * a different version of the application, is ignored.
+ *
+ * @see CompactStateCodec
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE
+ *
+ * @since 7.0
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private final EntityPersister persister;
+
+	// resolved lazily, since the types of associations are not available
+	// until all the persisters have been created
+	private volatile Schema schema;
+	private volatile Map<Long, CompactCacheEntry> hierarchy;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		if ( !persister.getEntityName().equals( entry.getSubclass() )
+				&& subclassStructure( entry.getSubclass() ) instanceof CompactCacheEntry compactStructure ) {
+			return compactStructure.structure( item );
+		}
+		final Schema schema = schema();
+		final Serializable[] state = entry.getDisassembledState();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 16 + state.length * 8 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeLong( schema.id );
+			CompactCacheValueSerializer.write( entry.getVersion(), output );
+			for ( int i = 0; i < state.length; i++ ) {
+				CompactStateCodec.writeValue( state[i], schema.codecs[i], output );
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not write compact cache entry for " + persister.getEntityName(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return the {@link StandardCacheEntryImpl}, or {@code null} if the entry was
+	 *         written for a different version of the mapping of the entity
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			final long schemaId = input.readLong();
+			final CompactCacheEntry structure = hierarchy( factory ).get( schemaId );
+			if ( structure == null ) {
+				L2CACHE_LOGGER.debugf(
+						"Ignoring cache entry for %s with unknown schema id %s",
+						persister.getEntityName(),
+						schemaId
+				);
+				return null;
+			}
+			final @Nullable ValueCodec[] codecs = structure.schema().codecs;
+			final Object version = CompactCacheValueSerializer.read( input );
+			final Serializable[] state = new Serializable[codecs.length];
+			for ( int i = 0; i < codecs.length; i++ ) {
+				state[i] = (Serializable) CompactStateCodec.readValue( codecs[i], input );
+			}
+			return new StandardCacheEntryImpl( state, structure.persister.getEntityName(), version );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not read compact cache entry for " + persister.getEntityName(), e );
+		}
+	}
+
+	/**
+	 * The schema id identifying the current layout of entries of this entity.
+	 */
+	public long getSchemaId() {
+		return schema().id;
+	}
+
+	private Schema schema() {
+		Schema schema = this.schema;
+		if ( schema == null ) {
+			final String[] names = persister.getPropertyNames();
+			final Type[] types = persister.getPropertyTypes();
+			final @Nullable ValueCodec[] codecs = new ValueCodec[types.length];
+			for ( int i = 0; i < types.length; i++ ) {
+				codecs[i] = CompactStateCodec.valueCodec( types[i], persister.getFactory() );
+			}
+			schema = new Schema( CompactStateCodec.schemaId( persister.getEntityName(), names, codecs ), codecs );
+			this.schema = schema;
+		}
+		return schema;
+	}
+
+	private Map<Long, CompactCacheEntry> hierarchy(SessionFactoryImplementor factory) {
+		Map<Long, CompactCacheEntry> hierarchy = this.hierarchy;
+		if ( hierarchy == null ) {
+			// entries of every subclass may be read through the persister of this entity
+			hierarchy = new HashMap<>();
+			for ( String subclass : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+				final CacheEntryStructure structure =
+						factory.getMappingMetamodel().getEntityDescriptor( subclass ).getCacheEntryStructure();
+				if ( structure instanceof CompactCacheEntry compactStructure ) {
+					hierarchy.put( compactStructure.getSchemaId(), compactStructure );
+				}
+			}
+			this.hierarchy = hierarchy;
+		}
+		return hierarchy;
+	}
+
+	private CacheEntryStructure subclassStructure(String subclass) {
+		return persister.getFactory().getMappingMetamodel().getEntityDescriptor( subclass ).getCacheEntryStructure();
+	}
+
+	private record Schema(long id, @Nullable ValueCodec[] codecs) {
+	}
+}
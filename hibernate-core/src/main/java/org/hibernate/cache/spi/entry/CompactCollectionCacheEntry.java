@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.entry.CompactStateCodec.ValueCodec;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Compact binary CacheEntry format for persistent collections, see {@link CompactCacheEntry}.
+ * <p>
+ * The disassembled state of a map alternates keys and elements, and that of an id bag
+ * alternates identifiers and elements, so that the encoding of each value depends on
+ * its position.
+ *
+ * @since 7.0
+ */
+public class CompactCollectionCacheEntry implements CacheEntryStructure {
+	private final CollectionPersister persister;
+
+	// resolved lazily, since the types of associations are not available
+	// until all the persisters have been created
+	private volatile Schema schema;
+
+	/**
+	 * Constructs a CompactCollectionCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCollectionCacheEntry(CollectionPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final Serializable[] state = ( (CollectionCacheEntry) item ).getState();
+		final Schema schema = schema();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 12 + state.length * 8 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeLong( schema.id );
+			output.writeInt( state.length );
+			for ( int i = 0; i < state.length; i++ ) {
+				CompactStateCodec.writeValue( state[i], schema.codec( i ), output );
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not write compact cache entry for " + persister.getRole(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return the {@link CollectionCacheEntry}, or {@code null} if the entry was
+	 *         written for a different version of the mapping of the collection
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			final long schemaId = input.readLong();
+			final Schema schema = schema();
+			if ( schemaId != schema.id ) {
+				L2CACHE_LOGGER.debugf(
+						"Ignoring cache entry for %s with unknown schema id %s",
+						persister.getRole(),
+						schemaId
+				);
+				return null;
+			}
+			final Serializable[] state = new Serializable[input.readInt()];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = (Serializable) CompactStateCodec.readValue( schema.codec( i ), input );
+			}
+			return new CollectionCacheEntry( state );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not read compact cache entry for " + persister.getRole(), e );
+		}
+	}
+
+	private Schema schema() {
+		Schema schema = this.schema;
+		if ( schema == null ) {
+			final SessionFactoryImplementor factory = persister.getFactory();
+			final @Nullable ValueCodec elementCodec = CompactStateCodec.valueCodec( persister.getElementType(), factory );
+			final String[] names;
+			final @Nullable ValueCodec[] codecs;
+			switch ( persister.getCollectionSemantics().getCollectionClassification() ) {
+				case MAP, ORDERED_MAP, SORTED_MAP -> {
+					names = new String[] { "key", "element" };
+					codecs = new ValueCodec[] {
+							CompactStateCodec.valueCodec( persister.getIndexType(), factory ),
+							elementCodec
+					};
+				}
+				case ID_BAG -> {
+					names = new String[] { "id", "element" };
+					codecs = new ValueCodec[] {
+							CompactStateCodec.valueCodec( persister.getIdentifierType(), factory ),
+							elementCodec
+					};
+				}
+				default -> {
+					names = new String[] { "element" };
+					codecs = new ValueCodec[] { elementCodec };
+				}
+			}
+			schema = new Schema( CompactStateCodec.schemaId( persister.getRole(), names, codecs ), codecs );
+			this.schema = schema;
+		}
+		return schema;
+	}
+
+	private record Schema(long id, @Nullable ValueCodec[] codecs) {
+		private @Nullable ValueCodec codec(int position) {
+			return codecs[position % codecs.length];
+		}
+	}
+}
@@ -0,0 +1,538 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.CompactCacheValueSerializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Writes disassembled entity and collection state in the binary form used by
+ * {@link CompactCacheEntry} and {@link CompactCollectionCacheEntry}.
+ * <p>
+ * The encoding of each value is determined in advance from the {@link Type} of the
+ * attribute it belongs to, and from the {@linkplain BasicType#getJavaTypeDescriptor()
+ * Java type} of basic values, so that no type information needs to be written along
+ * with the value, apart from a single tag byte.  A value of unexpected type is written
+ * using {@link CompactCacheValueSerializer}.
+ */
+final class CompactStateCodec {
+	/**
+	 * The version of the binary format, which is part of every schema id.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte TYPED = 1;
+	private static final byte UNFETCHED = 2;
+	private static final byte UNKNOWN_BACK_REFERENCE = 3;
+	private static final byte OTHER = 4;
+
+	// the signature of values without a compact encoding
+	private static final String NO_CODEC_SIGNATURE = "OTHER";
+
+	// guards against identifiers referencing each other
+	private static final int MAX_DEPTH = 8;
+
+	private static final Map<Class<?>, BasicCodec> BASIC_CODECS = new HashMap<>();
+	static {
+		for ( BasicCodec codec : BasicCodec.values() ) {
+			BASIC_CODECS.put( codec.valueClass, codec );
+		}
+	}
+
+	private CompactStateCodec() {
+	}
+
+	/**
+	 * The encoding of the disassembled values of the given type, or {@code null} if
+	 * there is no compact encoding for them, in which case they are always written
+	 * using {@link CompactCacheValueSerializer}.
+	 */
+	static @Nullable ValueCodec valueCodec(Type type, SessionFactoryImplementor factory) {
+		return valueCodec( type, factory, 0 );
+	}
+
+	private static @Nullable ValueCodec valueCodec(Type type, SessionFactoryImplementor factory, int depth) {
+		if ( depth > MAX_DEPTH ) {
+			return null;
+		}
+		else if ( type instanceof BasicType<?> basicType ) {
+			final Class<?> javaType = basicType.getJavaTypeDescriptor().getJavaTypeClass();
+			if ( javaType != null && javaType.isEnum() ) {
+				return new EnumCodec( javaType );
+			}
+			else {
+				return BASIC_CODECS.get( javaType );
+			}
+		}
+		else if ( type instanceof EntityType entityType ) {
+			// associations are disassembled to the identifier, or unique key, of the target
+			return valueCodec(
+					entityType.getIdentifierOrUniqueKeyType( factory.getRuntimeMetamodels() ),
+					factory,
+					depth + 1
+			);
+		}
+		else if ( type instanceof CollectionType collectionType ) {
+			// collections are disassembled to their key
+			return valueCodec(
+					factory.getMappingMetamodel().getCollectionDescriptor( collectionType.getRole() ).getKeyType(),
+					factory,
+					depth + 1
+			);
+		}
+		else if ( type instanceof ComponentType componentType ) {
+			final Type[] subtypes = componentType.getSubtypes();
+			final @Nullable ValueCodec[] codecs = new ValueCodec[subtypes.length];
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				codecs[i] = valueCodec( subtypes[i], factory, depth + 1 );
+			}
+			return new ComponentCodec( codecs );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Compute a 64-bit hash of the names and encodings of the values of the given
+	 * entity or collection, which identifies the layout of its cached state.
+	 */
+	static long schemaId(String name, String[] valueNames, @Nullable ValueCodec[] codecs) {
+		long hash = 0xcbf29ce484222325L;
+		hash = hash( hash, Integer.toString( FORMAT_VERSION ) );
+		hash = hash( hash, name );
+		for ( int i = 0; i < codecs.length; i++ ) {
+			hash = hash( hash, valueNames[i] );
+			hash = hash( hash, signature( codecs[i] ) );
+		}
+		return hash;
+	}
+
+	private static long hash(long hash, String string) {
+		// FNV-1a, with a separator after each string
+		for ( int i = 0; i < string.length(); i++ ) {
+			hash ^= string.charAt( i );
+			hash *= 0x100000001b3L;
+		}
+		hash ^= 0xffff;
+		hash *= 0x100000001b3L;
+		return hash;
+	}
+
+	private static String signature(@Nullable ValueCodec codec) {
+		return codec == null ? NO_CODEC_SIGNATURE : codec.signature();
+	}
+
+	static void writeValue(Object value, @Nullable ValueCodec codec, DataOutputStream output) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN_BACK_REFERENCE );
+		}
+		else if ( codec != null && codec.accepts( value ) ) {
+			output.writeByte( TYPED );
+			codec.write( value, output );
+		}
+		else {
+			output.writeByte( OTHER );
+			CompactCacheValueSerializer.write( value, output );
+		}
+	}
+
+	static Object readValue(@Nullable ValueCodec codec, DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		return switch ( tag ) {
+			case NULL -> null;
+			case UNFETCHED -> LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACK_REFERENCE -> PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TYPED -> {
+				if ( codec == null ) {
+					throw new CacheException( "Unexpected typed value in compact cache entry" );
+				}
+				yield codec.read( input );
+			}
+			case OTHER -> CompactCacheValueSerializer.read( input );
+			default -> throw new CacheException( "Unexpected tag in compact cache entry: " + tag );
+		};
+	}
+
+	/**
+	 * The encoding of the values of an attribute.
+	 */
+	interface ValueCodec {
+		/**
+		 * A description of the encoding, which contributes to the schema id.
+		 */
+		String signature();
+
+		/**
+		 * Whether the given non-null value may be written by this codec.
+		 */
+		boolean accepts(Object value);
+
+		void write(Object value, DataOutputStream output) throws IOException;
+
+		Object read(DataInputStream input) throws IOException;
+	}
+
+	private enum BasicCodec implements ValueCodec {
+		LONG( Long.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeLong( (Long) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return input.readLong();
+			}
+		},
+		INTEGER( Integer.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeInt( (Integer) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return input.readInt();
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeShort( (Short) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return input.readShort();
+			}
+		},
+		BYTE( Byte.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeByte( (Byte) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return input.readByte();
+			}
+		},
+		BOOLEAN( Boolean.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeBoolean( (Boolean) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return input.readBoolean();
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeDouble( (Double) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return input.readDouble();
+			}
+		},
+		FLOAT( Float.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeFloat( (Float) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return input.readFloat();
+			}
+		},
+		CHARACTER( Character.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeChar( (Character) value );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return input.readChar();
+			}
+		},
+		STRING( String.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				writeBytes( ( (String) value ).getBytes( StandardCharsets.UTF_8 ), output );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return new String( readBytes( input ), StandardCharsets.UTF_8 );
+			}
+		},
+		BYTES( byte[].class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				writeBytes( (byte[]) value, output );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return readBytes( input );
+			}
+		},
+		BIG_INTEGER( BigInteger.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				writeBytes( ( (BigInteger) value ).toByteArray(), output );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return new BigInteger( readBytes( input ) );
+			}
+		},
+		BIG_DECIMAL( BigDecimal.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				final BigDecimal decimal = (BigDecimal) value;
+				output.writeInt( decimal.scale() );
+				writeBytes( decimal.unscaledValue().toByteArray(), output );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				final int scale = input.readInt();
+				return new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+		},
+		UUID_VALUE( UUID.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				final UUID uuid = (UUID) value;
+				output.writeLong( uuid.getMostSignificantBits() );
+				output.writeLong( uuid.getLeastSignificantBits() );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return new UUID( input.readLong(), input.readLong() );
+			}
+		},
+		DATE( Date.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeLong( ( (Date) value ).getTime() );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return new Date( input.readLong() );
+			}
+		},
+		LOCAL_DATE( LocalDate.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeLong( ( (LocalDate) value ).toEpochDay() );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return LocalDate.ofEpochDay( input.readLong() );
+			}
+		},
+		LOCAL_TIME( LocalTime.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				output.writeLong( ( (LocalTime) value ).toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				return LocalTime.ofNanoOfDay( input.readLong() );
+			}
+		},
+		LOCAL_DATE_TIME( LocalDateTime.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				output.writeLong( dateTime.toLocalDate().toEpochDay() );
+				output.writeLong( dateTime.toLocalTime().toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				final LocalDate date = LocalDate.ofEpochDay( input.readLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( input.readLong() ) );
+			}
+		},
+		INSTANT( Instant.class ) {
+			@Override
+			public void write(Object value, DataOutputStream output) throws IOException {
+				final Instant instant = (Instant) value;
+				output.writeLong( instant.getEpochSecond() );
+				output.writeInt( instant.getNano() );
+			}
+
+			@Override
+			public Object read(DataInputStream input) throws IOException {
+				final long seconds = input.readLong();
+				return Instant.ofEpochSecond( seconds, input.readInt() );
+			}
+		};
+
+		private final Class<?> valueClass;
+
+		BasicCodec(Class<?> valueClass) {
+			this.valueClass = valueClass;
+		}
+
+		@Override
+		public String signature() {
+			return name();
+		}
+
+		@Override
+		public boolean accepts(Object value) {
+			// an exact match, since subclasses, java.sql.Timestamp for example, carry more state
+			return value.getClass() == valueClass;
+		}
+
+		@Override
+		public abstract void write(Object value, DataOutputStream output) throws IOException;
+
+		@Override
+		public abstract Object read(DataInputStream input) throws IOException;
+	}
+
+	private static final class EnumCodec implements ValueCodec {
+		private final Class<?> enumClass;
+		private final Object[] constants;
+
+		private EnumCodec(Class<?> enumClass) {
+			this.enumClass = enumClass;
+			this.constants = enumClass.getEnumConstants();
+		}
+
+		@Override
+		public String signature() {
+			// the ordinals are written, so the schema changes if the constants are reordered
+			final StringBuilder signature = new StringBuilder( "ENUM " ).append( enumClass.getName() );
+			for ( Object constant : constants ) {
+				signature.append( ' ' ).append( ( (Enum<?>) constant ).name() );
+			}
+			return signature.toString();
+		}
+
+		@Override
+		public boolean accepts(Object value) {
+			return value instanceof Enum<?> constant && constant.getDeclaringClass() == enumClass;
+		}
+
+		@Override
+		public void write(Object value, DataOutputStream output) throws IOException {
+			output.writeInt( ( (Enum<?>) value ).ordinal() );
+		}
+
+		@Override
+		public Object read(DataInputStream input) throws IOException {
+			return constants[input.readInt()];
+		}
+	}
+
+	private static final class ComponentCodec implements ValueCodec {
+		private final @Nullable ValueCodec[] codecs;
+
+		private ComponentCodec(@Nullable ValueCodec[] codecs) {
+			this.codecs = codecs;
+		}
+
+		@Override
+		public String signature() {
+			final StringBuilder signature = new StringBuilder( "COMPONENT(" );
+			for ( int i = 0; i < codecs.length; i++ ) {
+				if ( i > 0 ) {
+					signature.append( ',' );
+				}
+				signature.append( signature( codecs[i] ) );
+			}
+			return signature.append( ')' ).toString();
+		}
+
+		@Override
+		public boolean accepts(Object value) {
+			return value.getClass() == Object[].class;
+		}
+
+		@Override
+		public void write(Object value, DataOutputStream output) throws IOException {
+			// the values of polymorphic embeddables are followed by the discriminator
+			final Object[] values = (Object[]) value;
+			output.writeInt( values.length );
+			for ( int i = 0; i < values.length; i++ ) {
+				writeValue( values[i], codec( i ), output );
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream input) throws IOException {
+			final Object[] values = new Object[input.readInt()];
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = readValue( codec( i ), input );
+			}
+			return values;
+		}
+
+		private @Nullable ValueCodec codec(int i) {
+			return i < codecs.length ? codecs[i] : null;
+		}
+	}
+
+	private static void writeBytes(byte[] bytes, DataOutputStream output) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
@@ -9,6 +9,7 @@
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
+import org.hibernate.Internal;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.PreLoadEvent;
@@ -55,7 +56,8 @@ public StandardCacheEntryImpl(
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+	@Internal
+	public StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
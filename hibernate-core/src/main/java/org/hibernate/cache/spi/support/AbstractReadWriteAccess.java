@@ -12,6 +12,7 @@
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.hibernate.Internal;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -277,12 +278,23 @@ public final static class Item implements Serializable, Lockable {
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
 		 */
-		Item(Object value, Object version, long timestamp) {
+		@Internal
+		public Item(Object value, Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
 		}
 
+		@Internal
+		public Object getVersion() {
+			return version;
+		}
+
+		@Internal
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isReadable(long txTimestamp) {
 			if ( log.isDebugEnabled() ) {
@@ -4,6 +4,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
 import org.hibernate.cache.spi.DirectAccessRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -42,6 +44,11 @@ public void putIntoCache(Object key, Object value, SharedSessionContractImplemen
 		getStorageAccess().putIntoCache( key, value, session );
 	}
 
+	@Override
+	public void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		getStorageAccess().putAllIntoCache( values, session );
+	}
+
 	@Override
 	public void clear() {
 		getStorageAccess().evictData();
@@ -4,6 +4,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -26,6 +28,19 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Put several items into the cache, using a single operation if the cache supports it
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each item
+	 *
+	 * @since 7.0
+	 */
+	default void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : values.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
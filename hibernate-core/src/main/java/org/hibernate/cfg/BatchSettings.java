@@ -33,6 +33,25 @@ public interface BatchSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * When enabled, batched insert statements are written as a single statement
+	 * inserting several rows, using a {@code values} list of the form
+	 * {@code insert into ... values (...),(...)}, instead of relying on JDBC
+	 * {@linkplain PreparedStatement#addBatch batching}.  This is usually faster
+	 * unless the JDBC driver already rewrites batched inserts this way.
+	 * <p/>
+	 * Only has an effect when {@linkplain #STATEMENT_BATCH_SIZE batching} is
+	 * enabled, and when the {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsert
+	 * dialect supports it}.  Statements are rendered for row counts which are
+	 * powers of two, so that only a few distinct statements are prepared for
+	 * each table.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch.multi_row_inserts";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
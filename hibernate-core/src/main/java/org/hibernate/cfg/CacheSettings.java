@@ -107,6 +107,20 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * Enables the columnar layout of cached query results. The values of each selected
+	 * column are stored together, in an array of primitives for numeric values, or in a
+	 * dictionary-encoded array for strings, instead of one array per row. This reduces
+	 * the size of cached results made of many rows, and the cost of reading them back.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.sql.results.caching.internal.ColumnarCachedResults
+	 *
+	 * @since 7.0
+	 */
+	String USE_COLUMNAR_QUERY_CACHE = "hibernate.cache.use_columnar_query_cache";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -135,6 +149,24 @@ public interface CacheSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * When enabled, and {@link org.hibernate.cache.internal.BatchingTimestampsCacheFactory}
+	 * is used as the {@linkplain #QUERY_CACHE_FACTORY query cache factory}, the update
+	 * timestamps of the tables modified by a transaction are written asynchronously after
+	 * its completion, so that committing does not wait for the timestamps cache.
+	 * <p>
+	 * The tables remain pre-invalidated until the timestamps are written, so that no stale
+	 * query results are read from the query cache in the meantime.  The asynchronous
+	 * writes do not belong to any session, and are therefore not reported as cache puts
+	 * to the {@linkplain org.hibernate.event.monitor.spi.EventMonitor event monitor} or to
+	 * the {@linkplain org.hibernate.SessionEventListener session event listeners}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_CACHE_ASYNC_INVALIDATION = "hibernate.cache.query_cache_async_invalidation";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 *
@@ -185,6 +217,22 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of compact binary second-level cache entries. Each attribute of an
+	 * entity, and each element of a collection, is written in a binary form determined by
+	 * its type, which is much smaller and cheaper to produce than the Java serialization
+	 * of the default cache entries. This is useful when the cache is distributed.
+	 * <p>
+	 * This setting has no effect when {@value #USE_STRUCTURED_CACHE} is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 7.0
+	 */
+	String USE_COMPACT_CACHE = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -228,6 +276,34 @@ public interface CacheSettings {
 	@SuppressWarnings("DeprecatedIsStillUsed")
 	String CACHE_KEYS_FACTORY = "hibernate.cache.keys_factory";
 
+	/**
+	 * The maximum number of bytes of memory used by each region of the
+	 * {@linkplain org.hibernate.cache.internal.OffHeapRegionFactory off-heap
+	 * second-level cache}.  When a region exceeds its size, the oldest entries
+	 * are evicted.
+	 * <p>
+	 * The size of a particular region may be specified by appending the name of
+	 * the region to the name of this setting, for example,
+	 * {@code hibernate.cache.off_heap.max_region_size.com.acme.Book}.
+	 *
+	 * @settingDefault 64 MiB
+	 *
+	 * @since 7.0
+	 */
+	String OFF_HEAP_CACHE_MAX_REGION_SIZE = "hibernate.cache.off_heap.max_region_size";
+
+	/**
+	 * The size in bytes of the slabs of memory allocated by the
+	 * {@linkplain org.hibernate.cache.internal.OffHeapRegionFactory off-heap
+	 * second-level cache}.  Eviction always applies to all the entries of the
+	 * oldest slab of a region, and an entry larger than a slab is never cached.
+	 *
+	 * @settingDefault 4 MiB
+	 *
+	 * @since 7.0
+	 */
+	String OFF_HEAP_CACHE_SLAB_SIZE = "hibernate.cache.off_heap.slab_size";
+
 	/**
 	 * Entity cache configuration properties follow the pattern
 	 * {@code hibernate.classcache.packagename.ClassName usage[, region]}
@@ -31,6 +31,50 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Specifies a window, in milliseconds, during which batch fetches of the same
+	 * entity type issued concurrently by different sessions are coalesced into a
+	 * single SQL round trip.  The session which issues the first batch fetch waits
+	 * for the window to elapse, and then fetches the instances requested by all the
+	 * sessions into the second-level cache, where each session finds the instances
+	 * it requested.  A session which waited for the fetch for longer than the window
+	 * again fetches its own instances.
+	 * <p/>
+	 * Only applies to entity types which are stored in the second-level cache using
+	 * the {@linkplain org.hibernate.annotations.CacheConcurrencyStrategy#READ_ONLY read-only}
+	 * or {@linkplain org.hibernate.annotations.CacheConcurrencyStrategy#NONSTRICT_READ_WRITE
+	 * nonstrict read-write} strategies, and to sessions whose {@linkplain org.hibernate.CacheMode
+	 * cache mode} allows both reading from and writing to the second-level cache.  With the
+	 * read-write strategy, an entry cached by a session is not readable by sessions whose
+	 * transaction started before it was cached, which is the case of the sessions waiting
+	 * for the fetch.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @see #DEFAULT_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	String BATCH_FETCH_COALESCING_WINDOW = "hibernate.batch_fetch_coalescing_window";
+
+	/**
+	 * When enabled, the number of entities or collections initialized by each batch
+	 * fetch is picked from the number of keys waiting in the batch-fetch queue, with
+	 * the {@linkplain BatchSize batch size} as a minimum, instead of being fixed.
+	 * <p/>
+	 * When a batch fetch uses a SQL {@code IN} predicate, the number of parameters is
+	 * the smallest power of two accommodating the keys, within the limits of the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() dialect},
+	 * so that only a handful of distinct SQL statements is ever executed.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #DEFAULT_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_BATCH_FETCH = "hibernate.adaptive_batch_fetch";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -457,6 +457,24 @@ public interface MappingSettings {
 	 */
 	String XML_MAPPING_ENABLED = "hibernate.xml_mapping_enabled";
 
+	/**
+	 * The path of a directory in which the JAXB bindings of XML mappings are cached
+	 * between starts, so that a mapping document whose content has not changed is
+	 * not parsed and bound again.  The bindings are stored in files named after a
+	 * hash of the content of the document and of the Hibernate version.
+	 *
+	 * @apiNote This is a performance optimization appropriate for applications
+	 * with large XML mappings.  Only the parsing of the XML is avoided: the
+	 * mappings are still processed into the boot and runtime metamodels.
+	 *
+	 * @settingDefault none - XML mappings are not cached
+	 *
+	 * @see org.hibernate.boot.MetadataSources#addCacheableFile(java.io.File)
+	 *
+	 * @since 7.0
+	 */
+	String XML_PARSE_CACHE_DIRECTORY = "hibernate.xml_parse_cache_directory";
+
 	/**
 	 * Specifies the {@link CollectionClassification} to use for a plural attribute
 	 * typed as {@link java.util.List} with no explicit list index details
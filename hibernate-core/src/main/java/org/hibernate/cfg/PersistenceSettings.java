@@ -176,6 +176,52 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * The number of threads used to initialize the entity and collection persisters
+	 * when building the {@link org.hibernate.SessionFactory}, that is, to generate
+	 * their SQL, and to build their loaders and mutation coordinators.
+	 * <p>
+	 * The persisters of the entities of an inheritance hierarchy are initialized by
+	 * the same thread, from the root entity down. The persisters themselves, and the
+	 * mapping model, are still created by the thread building the factory.
+	 *
+	 * @apiNote This is a performance optimization appropriate for applications with
+	 * very large domain models.
+	 *
+	 * @settingDefault {@code 1} - the persisters are initialized sequentially
+	 *
+	 * @since 7.0
+	 */
+	String SESSION_FACTORY_INITIALIZATION_PARALLELISM = "hibernate.session_factory.initialization_parallelism";
+
+	/**
+	 * When enabled, the SQL insert, update and delete operations of an entity, and its
+	 * loader by id, are generated the first time they are needed, instead of when the
+	 * {@link org.hibernate.SessionFactory} is built.
+	 * <p>
+	 * This reduces the time taken to build the factory for applications with many
+	 * entities, most of which are not used right after startup.  On the other hand,
+	 * any problem with the SQL generated for an entity is only reported on first use.
+	 *
+	 * @settingDefault {@code false} - the SQL is generated when the factory is built
+	 *
+	 * @see #SESSION_FACTORY_PERSISTER_WARMUP
+	 *
+	 * @since 7.0
+	 */
+	String SESSION_FACTORY_LAZY_PERSISTER_INITIALIZATION = "hibernate.session_factory.lazy_persister_initialization";
+
+	/**
+	 * When enabled along with {@value #SESSION_FACTORY_LAZY_PERSISTER_INITIALIZATION},
+	 * a background thread generates the SQL of each entity which has not been used yet,
+	 * once the {@link org.hibernate.SessionFactory} is built.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String SESSION_FACTORY_PERSISTER_WARMUP = "hibernate.session_factory.persister_warmup";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
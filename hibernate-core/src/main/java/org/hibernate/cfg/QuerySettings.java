@@ -270,6 +270,27 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects how the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache} is bounded:
+	 * <ul>
+	 * <li>{@code lirs} uses LIRS eviction, updating its recency information under
+	 *     a segment lock on every hit, or
+	 * <li>{@code lock-free} uses an approximate LRU eviction, with reads which never
+	 *     acquire a lock, and is better suited to highly concurrent applications
+	 *     executing many distinct queries.
+	 * </ul>
+	 * <p>
+	 * The default is {@code lirs}. Only the {@code lock-free} implementation reports
+	 * its {@linkplain org.hibernate.stat.Statistics#getQueryPlanCacheEvictionCount
+	 * evictions}.
+	 *
+	 * @see org.hibernate.query.spi.QueryInterpretationCache
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_PLAN_CACHE_IMPLEMENTATION = "hibernate.query.plan_cache_implementation";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -4667,6 +4667,36 @@ public boolean supportsValuesListForInsert() {
 		return true;
 	}
 
+	/**
+	 * Does this dialect natively support inserting several rows using
+	 * a single {@code insert} statement with a {@code values} list of
+	 * form {@code VALUES (1), (2), (3)}, as opposed to emulating it?
+	 *
+	 * @return {@code true} if multi-row inserts are supported natively
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	public boolean supportsMultiRowInsert() {
+		return supportsValuesListForInsert();
+	}
+
+	/**
+	 * Return the limit that the underlying database places on the number of rows
+	 * of the {@code values} list of a single {@code insert} statement, regardless
+	 * of the {@linkplain #getParameterCountLimit() number of parameters}.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @see #supportsMultiRowInsert()
+	 *
+	 * @since 7.0
+	 */
+	public int getMultiRowInsertRowCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
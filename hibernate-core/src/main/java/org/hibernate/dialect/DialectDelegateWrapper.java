@@ -1344,6 +1344,16 @@ public boolean supportsValuesListForInsert() {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return wrapped.supportsMultiRowInsert();
+	}
+
+	@Override
+	public int getMultiRowInsertRowCountLimit() {
+		return wrapped.getMultiRowInsertRowCountLimit();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
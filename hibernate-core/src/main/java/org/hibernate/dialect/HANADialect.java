@@ -859,6 +859,11 @@ public boolean supportsColumnCheck() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
 	@Override
 	public boolean supportsCurrentTimestampSelection() {
 		return true;
@@ -1055,6 +1055,12 @@ public boolean supportsValuesList() {
 		return getVersion().isSameOrAfter( 23 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		// emulated using a union of selects on older versions
+		return supportsValuesList();
+	}
+
 	// features which remain constant across 8i, 9i, and 10g ~~~~~~~~~~~~~~~~~~
 
 	@Override
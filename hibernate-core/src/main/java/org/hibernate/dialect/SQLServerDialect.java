@@ -712,6 +712,12 @@ public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getMultiRowInsertRowCountLimit() {
+		// the maximum number of row value expressions of a table value constructor
+		return 1000;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return SQLServerIdentityColumnSupport.INSTANCE;
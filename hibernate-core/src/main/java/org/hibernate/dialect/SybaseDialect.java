@@ -194,6 +194,11 @@ public boolean supportsNullPrecedence() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
 	@Override
 	public int getInExpressionCountLimit() {
 		return IN_LIST_SIZE_LIMIT;
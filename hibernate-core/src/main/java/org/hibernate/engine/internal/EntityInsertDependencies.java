@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * The dependencies between entity types which determine the order in which their
+ * instances must be inserted, as declared by the mapping: for each entity type, the
+ * entity types whose rows may be referenced by a foreign key of its rows, and which
+ * must therefore be inserted first.
+ * <p>
+ * The dependencies are the same as the ones discovered between individual instances
+ * by {@link org.hibernate.engine.spi.ActionQueue}'s insert sorter, that is:
+ * <ul>
+ *     <li>a to-one association depends on the associated entity type, unless it is
+ *         a one-to-one whose foreign key is on the table of the associated entity
+ *         type, in which case the associated entity type depends on it, and
+ *     <li>the element entity type of a one-to-many association depends on the owner.
+ * </ul>
+ * When the collections are written right after their owner is inserted, as by
+ * {@link org.hibernate.StatelessSession#insert}, the owner of a unidirectional
+ * one-to-many association depends on the element entity type instead, since the
+ * foreign keys of the elements are updated as soon as the owner is inserted, and
+ * a {@code mappedBy} one-to-many association introduces no dependency of its own.
+ * <p>
+ * An association to an entity type is a dependency on all its subtypes.  These are
+ * computed once, for all entity types of a {@link org.hibernate.SessionFactory}.
+ *
+ * @see org.hibernate.engine.spi.SessionFactoryImplementor#getEntityInsertDependencies()
+ * @see EntityInsertOrdering
+ *
+ * @since 7.0
+ */
+public final class EntityInsertDependencies {
+	private final Map<EntityPersister, Set<EntityPersister>> dependenciesByPersister;
+	private final Map<EntityPersister, Set<EntityPersister>> dependenciesWithCollectionsByPersister;
+
+	public EntityInsertDependencies(MappingMetamodel metamodel) {
+		// an entity persister is registered under both its entity name and its class name
+		final Set<EntityPersister> persisters = Collections.newSetFromMap( new IdentityHashMap<>() );
+		metamodel.forEachEntityDescriptor( persisters::add );
+
+		final Map<EntityPersister, Set<EntityPersister>> dependencies = new IdentityHashMap<>( persisters.size() );
+		final Map<EntityPersister, Set<EntityPersister>> dependenciesWithCollections =
+				new IdentityHashMap<>( persisters.size() );
+		for ( EntityPersister persister : persisters ) {
+			for ( Type type : persister.getPropertyTypes() ) {
+				addDependencies( persister, type, false, metamodel, dependencies );
+				addDependencies( persister, type, true, metamodel, dependenciesWithCollections );
+			}
+		}
+		dependenciesByPersister = dependencies;
+		dependenciesWithCollectionsByPersister = dependenciesWithCollections;
+	}
+
+	/**
+	 * The entity types whose instances must be inserted before the instances of the
+	 * given entity type, not including the entity type itself.
+	 *
+	 * @param collectionsWrittenWithOwner whether the collections of an entity are written
+	 * right after the entity is inserted, rather than after all the entities are inserted
+	 */
+	public Set<EntityPersister> getDependencies(EntityPersister persister, boolean collectionsWrittenWithOwner) {
+		final Set<EntityPersister> dependencies = collectionsWrittenWithOwner
+				? dependenciesWithCollectionsByPersister.get( persister )
+				: dependenciesByPersister.get( persister );
+		return dependencies == null ? Collections.emptySet() : dependencies;
+	}
+
+	private static void addDependencies(
+			EntityPersister persister,
+			Type type,
+			boolean collectionsWrittenWithOwner,
+			MappingMetamodel metamodel,
+			Map<EntityPersister, Set<EntityPersister>> dependencies) {
+		if ( type instanceof EntityType entityType ) {
+			final EntityPersister associated = metamodel.getEntityDescriptor( entityType.getAssociatedEntityName() );
+			if ( entityType.isOneToOne()
+					&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+				// the foreign key is on the table of the associated entity
+				if ( !entityType.isReferenceToPrimaryKey() ) {
+					for ( EntityPersister subtype : subtypes( associated, metamodel ) ) {
+						addDependency( subtype, persister, dependencies );
+					}
+				}
+			}
+			else {
+				for ( EntityPersister subtype : subtypes( associated, metamodel ) ) {
+					addDependency( persister, subtype, dependencies );
+				}
+			}
+		}
+		else if ( type instanceof CollectionType collectionType ) {
+			final CollectionPersister collectionPersister =
+					metamodel.getCollectionDescriptor( collectionType.getRole() );
+			if ( collectionPersister.isOneToMany() && collectionPersister.getElementType() instanceof EntityType ) {
+				final EntityPersister element =
+						metamodel.getEntityDescriptor( collectionPersister.getElementPersister().getEntityName() );
+				if ( collectionsWrittenWithOwner ) {
+					// the foreign key of a unidirectional one-to-many is written right after
+					// the owner is inserted, so the elements must already exist at that point,
+					// whereas a mappedBy one-to-many is handled by the many-to-one on the other side
+					if ( !collectionPersister.isInverse() ) {
+						for ( EntityPersister subtype : subtypes( element, metamodel ) ) {
+							addDependency( persister, subtype, dependencies );
+						}
+					}
+				}
+				else {
+					for ( EntityPersister subtype : subtypes( element, metamodel ) ) {
+						addDependency( subtype, persister, dependencies );
+					}
+				}
+			}
+		}
+		else if ( type instanceof ComponentType componentType ) {
+			for ( Type subtype : componentType.getSubtypes() ) {
+				addDependencies( persister, subtype, collectionsWrittenWithOwner, metamodel, dependencies );
+			}
+		}
+	}
+
+	private static List<EntityPersister> subtypes(EntityPersister persister, MappingMetamodel metamodel) {
+		return persister.getEntityMetamodel().getSubclassEntityNames().stream()
+				.map( metamodel::getEntityDescriptor )
+				.toList();
+	}
+
+	private static void addDependency(
+			EntityPersister dependent,
+			EntityPersister dependency,
+			Map<EntityPersister, Set<EntityPersister>> dependencies) {
+		// self-references are taken care of by keeping the original order of the instances
+		if ( dependent != dependency ) {
+			dependencies.computeIfAbsent( dependent, p -> Collections.newSetFromMap( new IdentityHashMap<>() ) )
+					.add( dependency );
+		}
+	}
+}
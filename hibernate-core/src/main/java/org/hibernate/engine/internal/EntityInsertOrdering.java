@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Orders a list of entities to be inserted so that all instances of a given entity
+ * type are contiguous, and so that they may be written using a single JDBC batch
+ * per entity type.
+ * <p>
+ * Entity types are ordered according to the foreign keys between their tables, as
+ * determined by the mapping alone, that is, by the {@link EntityInsertDependencies}
+ * of the session factory, so that the rows of an entity type are inserted
+ * before the rows of the entity types referencing it.  Entity types first appear in
+ * the same order as in the given list whenever the foreign keys allow it, and the
+ * instances of each entity type are kept in their original relative order, which
+ * takes care of self-referencing associations.  If the foreign keys between the
+ * entity types form a cycle, the given list is left as it is.
+ * <p>
+ * Unlike {@link org.hibernate.engine.spi.ActionQueue}'s insert sorter, which falls
+ * back to the dependencies between individual instances, the ordering only depends
+ * on the entity types involved, and is computed in a time proportional to the number
+ * of entities plus the square of the number of distinct entity types.
+ *
+ * @see org.hibernate.StatelessSession#insertMultiple(List)
+ */
+public final class EntityInsertOrdering {
+
+	private EntityInsertOrdering() {
+	}
+
+	/**
+	 * Order the given entities by entity type.
+	 *
+	 * @param entities the entities to be inserted
+	 * @param persisterResolver resolves the persister of each entity
+	 *
+	 * @return the ordered entities, or the given list if no reordering is needed or possible
+	 */
+	public static List<?> orderByEntityType(List<?> entities, Function<Object, EntityPersister> persisterResolver) {
+		final Map<EntityPersister, List<Object>> entitiesByPersister = groupByPersister( entities, persisterResolver );
+		if ( entitiesByPersister.size() < 2 ) {
+			return entities;
+		}
+
+		final EntityPersister[] persisters = entitiesByPersister.keySet().toArray( new EntityPersister[0] );
+		final int[] order = topologicalOrder( persisters );
+		if ( order == null ) {
+			return entities;
+		}
+
+		final List<Object> ordered = new ArrayList<>( entities.size() );
+		for ( int index : order ) {
+			ordered.addAll( entitiesByPersister.get( persisters[index] ) );
+		}
+		return ordered;
+	}
+
+	/**
+	 * Order the given entities so that all instances of a given entity type are
+	 * contiguous, keeping entity types in the order they first appear in the list.
+	 *
+	 * @param entities the entities to be updated
+	 * @param persisterResolver resolves the persister of each entity
+	 *
+	 * @return the ordered entities, or the given list if no reordering is needed
+	 */
+	public static List<?> groupByEntityType(List<?> entities, Function<Object, EntityPersister> persisterResolver) {
+		final Map<EntityPersister, List<Object>> entitiesByPersister = groupByPersister( entities, persisterResolver );
+		if ( entitiesByPersister.size() < 2 ) {
+			return entities;
+		}
+
+		final List<Object> ordered = new ArrayList<>( entities.size() );
+		for ( List<Object> group : entitiesByPersister.values() ) {
+			ordered.addAll( group );
+		}
+		return ordered;
+	}
+
+	private static Map<EntityPersister, List<Object>> groupByPersister(
+			List<?> entities,
+			Function<Object, EntityPersister> persisterResolver) {
+		final Map<EntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+		EntityPersister lastPersister = null;
+		List<Object> lastGroup = null;
+		for ( Object entity : entities ) {
+			final EntityPersister persister = persisterResolver.apply( entity );
+			if ( persister != lastPersister ) {
+				lastPersister = persister;
+				lastGroup = entitiesByPersister.computeIfAbsent( persister, p -> new ArrayList<>() );
+			}
+			lastGroup.add( entity );
+		}
+		return entitiesByPersister;
+	}
+
+	/**
+	 * @return the indexes of the given persisters, in the order their rows should be
+	 * inserted, or {@code null} if the foreign keys between them form a cycle
+	 */
+	private static int[] topologicalOrder(EntityPersister[] persisters) {
+		final int count = persisters.length;
+		final Map<EntityPersister, Integer> indexes = new IdentityHashMap<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			indexes.put( persisters[i], i );
+		}
+		// the stateless session writes the collections of an entity right after inserting it
+		final EntityInsertDependencies entityInsertDependencies =
+				persisters[0].getFactory().getEntityInsertDependencies();
+		// dependencies[i] holds the indexes of the persisters which must be inserted before persisters[i]
+		final BitSet[] dependencies = new BitSet[count];
+		for ( int i = 0; i < count; i++ ) {
+			dependencies[i] = new BitSet( count );
+			for ( EntityPersister dependency : entityInsertDependencies.getDependencies( persisters[i], true ) ) {
+				final Integer index = indexes.get( dependency );
+				if ( index != null ) {
+					dependencies[i].set( index );
+				}
+			}
+		}
+
+		final int[] order = new int[count];
+		final BitSet inserted = new BitSet( count );
+		for ( int position = 0; position < count; position++ ) {
+			int next = -1;
+			for ( int i = inserted.nextClearBit( 0 ); i < count; i = inserted.nextClearBit( i + 1 ) ) {
+				final BitSet pending = (BitSet) dependencies[i].clone();
+				pending.andNot( inserted );
+				if ( pending.isEmpty() ) {
+					next = i;
+					break;
+				}
+			}
+			if ( next < 0 ) {
+				return null;
+			}
+			order[position] = next;
+			inserted.set( next );
+		}
+		return order;
+	}
+}
@@ -56,6 +56,7 @@
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.InstanceIdentityMap;
+import org.hibernate.internal.util.collections.OpenAddressingMap;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -114,7 +115,8 @@ the following fields are used in all circumstances, and are not worth (or not su
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	// (open addressing avoids allocating a node per managed entity)
+	private OpenAddressingMap<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -125,7 +127,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private OpenAddressingMap<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -137,7 +139,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 	private transient int currentCollectionInstanceId = 1;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private OpenAddressingMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -183,7 +185,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new OpenAddressingMap<>( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
@@ -1330,7 +1332,7 @@ public Map<EntityKey, Object> getEntitySnapshotsByKey() {
 	@Override
 	public Map<EntityKey, Object> getOrInitializeEntitySnapshotsByKey() {
 		if ( entitySnapshotsByKey == null ) {
-			entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitySnapshotsByKey = new OpenAddressingMap<>( INIT_COLL_SIZE );
 		}
 		return entitySnapshotsByKey;
 	}
@@ -2007,7 +2009,7 @@ public static StatefulPersistenceContext deserialize(
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = new OpenAddressingMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -2018,7 +2020,7 @@ public static StatefulPersistenceContext deserialize(
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = new OpenAddressingMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
@@ -2048,7 +2050,7 @@ public static StatefulPersistenceContext deserialize(
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.collectionsByKey = new OpenAddressingMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put(
 						CollectionKey.deserialize( ois, session ),
@@ -2230,7 +2232,7 @@ public void clearCollectionsByKey() {
 	@Override
 	public PersistentCollection<?> addCollectionByKey(CollectionKey collectionKey, PersistentCollection<?> persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			collectionsByKey = new OpenAddressingMap<>( INIT_COLL_SIZE );
 		}
 		return collectionsByKey.put( collectionKey, persistentCollection );
 	}
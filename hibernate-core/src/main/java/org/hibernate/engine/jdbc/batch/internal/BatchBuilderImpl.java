@@ -18,6 +18,8 @@
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
 import static org.hibernate.jdbc.Expectations.NONE;
 
@@ -28,6 +30,7 @@
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final @Nullable MultiRowInsertStatements multiRowInsertStatements;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -36,6 +39,18 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, null );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInsertStatements If not null, batched inserts are
+	 * written using multi-row inserts
+	 */
+	public BatchBuilderImpl(int globalBatchSize, @Nullable MultiRowInsertStatements multiRowInsertStatements) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Using standard BatchBuilder (%s)",
@@ -44,6 +59,7 @@ public BatchBuilderImpl(int globalBatchSize) {
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInsertStatements = multiRowInsertStatements;
 	}
 
 	public int getJdbcBatchSize() {
@@ -61,7 +77,7 @@ public Batch buildBatch(
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator, multiRowInsertStatements );
 	}
 
 
@@ -8,13 +8,17 @@
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import static org.hibernate.cfg.BatchSettings.BATCH_STRATEGY;
 import static org.hibernate.cfg.BatchSettings.BUILDER;
+import static org.hibernate.cfg.BatchSettings.MULTI_ROW_INSERTS;
 import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
@@ -42,7 +46,10 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl( getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+			return new BatchBuilderImpl(
+					getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					multiRowInsertStatements( configurationValues, registry )
+			);
 		}
 
 		if ( builder instanceof BatchBuilder batchBuilder ) {
@@ -60,4 +67,19 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 			throw new ServiceException( "Could not build explicit BatchBuilder [" + builderClassName + "]", e );
 		}
 	}
+
+	private static MultiRowInsertStatements multiRowInsertStatements(
+			Map<String, Object> configurationValues,
+			ServiceRegistryImplementor registry) {
+		if ( getBoolean( MULTI_ROW_INSERTS, configurationValues ) ) {
+			final Dialect dialect = registry.requireService( JdbcEnvironment.class ).getDialect();
+			if ( dialect.supportsMultiRowInsert() ) {
+				return new MultiRowInsertStatements(
+						dialect.getParameterCountLimit(),
+						dialect.getMultiRowInsertRowCountLimit()
+				);
+			}
+		}
+		return null;
+	}
 }
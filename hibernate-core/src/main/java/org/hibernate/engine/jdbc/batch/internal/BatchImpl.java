@@ -6,7 +6,10 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
@@ -15,6 +18,8 @@
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -23,8 +28,13 @@
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -45,17 +55,35 @@ public class BatchImpl implements Batch {
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
 
+	private final @Nullable MultiRowInsertStatements multiRowInsertStatements;
+	private final @Nullable WrapperOptions wrapperOptions;
+
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
 	private int batchPosition;
 	private boolean batchExecuted;
 	private StaleStateMapper[] staleStateMappers;
+	// rows to be written using multi-row inserts, by table name
+	private @Nullable Map<String, PendingRows> pendingRows;
 
 	public BatchImpl(
 			BatchKey key,
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * @param multiRowInsertStatements if not null, rows of insert statements are collected,
+	 * and written using multi-row inserts instead of JDBC batching
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			@Nullable MultiRowInsertStatements multiRowInsertStatements) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -72,6 +100,12 @@ public BatchImpl(
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
+		// the collected rows are bound using the options of the session
+		this.wrapperOptions = multiRowInsertStatements == null
+				? null
+				: jdbcCoordinator.getJdbcSessionOwner().getJdbcValueBindingOptions();
+		this.multiRowInsertStatements = wrapperOptions == null ? null : multiRowInsertStatements;
+
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_MESSAGE_LOGGER.createBatch(
 					batchSizeToUse,
@@ -131,7 +165,7 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 						);
 					}
 				}
-				else {
+				else if ( !addToPendingRows( statementDetails, jdbcValueBindings ) ) {
 					//noinspection resource
 					final PreparedStatement statement = statementDetails.resolveStatement();
 					sqlStatementLogger.logStatement( statementDetails.getSqlString() );
@@ -165,6 +199,184 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 		}
 	}
 
+	/**
+	 * Collect the row for a multi-row insert, if the statement allows it.
+	 *
+	 * @return {@code false} if the row must be added to the JDBC batch instead
+	 */
+	private boolean addToPendingRows(PreparedStatementDetails statementDetails, JdbcValueBindings jdbcValueBindings) {
+		if ( multiRowInsertStatements == null ) {
+			return false;
+		}
+		final PendingRows rows = resolvePendingRows( statementDetails );
+		if ( rows.shape == null ) {
+			return false;
+		}
+		final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+		if ( bindingGroup == null || bindingGroup.getBindings().size() != rows.shape.getParametersPerRow() ) {
+			// not every parameter is bound, so the row cannot be
+			// written as part of a multi-row insert after all
+			moveToJdbcBatch( rows );
+			return false;
+		}
+		rows.add( batchPosition, bindingGroup.getBindings().toArray( new Binding[0] ) );
+		jdbcValueBindings.afterStatement( tableDetails );
+		return true;
+	}
+
+	private PendingRows resolvePendingRows(PreparedStatementDetails statementDetails) {
+		if ( pendingRows == null ) {
+			pendingRows = new HashMap<>();
+		}
+		final String tableName = statementDetails.getMutatingTableDetails().getTableName();
+		PendingRows rows = pendingRows.get( tableName );
+		if ( rows == null ) {
+			assert multiRowInsertStatements != null;
+			MultiRowInsertStatements.Shape shape = null;
+			int maxRowsPerStatement = 0;
+			if ( isRowCountChecked( statementDetails.getExpectation() )
+					|| statementDetails.getExpectation() instanceof Expectation.None ) {
+				shape = multiRowInsertStatements.resolveShape( statementDetails );
+				if ( shape != null ) {
+					maxRowsPerStatement = multiRowInsertStatements.maxRowsPerStatement( shape, batchSizeToUse );
+					if ( maxRowsPerStatement < 2 ) {
+						shape = null;
+					}
+				}
+			}
+			rows = new PendingRows( statementDetails, shape, maxRowsPerStatement );
+			pendingRows.put( tableName, rows );
+		}
+		return rows;
+	}
+
+	private static boolean isRowCountChecked(Expectation expectation) {
+		// a subclass might expect some other row count
+		return expectation.getClass() == Expectation.RowCount.class;
+	}
+
+	/**
+	 * Add the collected rows to the JDBC batch, and stop collecting rows for the table.
+	 */
+	private void moveToJdbcBatch(PendingRows rows) {
+		final PreparedStatementDetails statementDetails = rows.statementDetails;
+		rows.shape = null;
+		for ( PendingRow row : rows.rows ) {
+			//noinspection resource
+			final PreparedStatement statement = statementDetails.resolveStatement();
+			sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+			try {
+				for ( Binding binding : row.bindings ) {
+					binding.getValueBinder().bind( statement, binding.getValue(), binding.getPosition(), wrapperOptions );
+				}
+				statement.addBatch();
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper.convert(
+						e,
+						"Could not perform addBatch",
+						statementDetails.getSqlString()
+				);
+			}
+		}
+		rows.rows.clear();
+	}
+
+	private void executePendingRows(PendingRows rows) {
+		final MultiRowInsertStatements.Shape shape = rows.shape;
+		assert shape != null;
+		int position = 0;
+		int remaining = rows.rows.size();
+		while ( remaining > 0 ) {
+			// a power of two, so that only a few distinct statements are ever prepared
+			final int count = Math.min( Integer.highestOneBit( remaining ), rows.maxRowsPerStatement );
+			executeRows( rows, shape, position, count );
+			position += count;
+			remaining -= count;
+		}
+		rows.rows.clear();
+	}
+
+	/**
+	 * Execute a multi-row insert of the given rows, just like {@link #performExecution()}
+	 * executes the JDBC batch of a statement.
+	 */
+	private void executeRows(PendingRows rows, MultiRowInsertStatements.Shape shape, int position, int count) {
+		assert wrapperOptions != null;
+		final String sql = shape.getSqlString( count, wrapperOptions.getSessionFactory() );
+		final int parametersPerRow = shape.getParametersPerRow();
+		sqlStatementLogger.logStatement( sql );
+		final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			for ( int i = 0; i < count; i++ ) {
+				final int offset = i * parametersPerRow;
+				for ( Binding binding : rows.rows.get( position + i ).bindings ) {
+					binding.getValueBinder().bind( statement, binding.getValue(), offset + binding.getPosition(), wrapperOptions );
+				}
+			}
+			final PreparedStatementDetails statementDetails = rows.statementDetails;
+			if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+				final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+				final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
+				final DiagnosticEvent executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+				final int rowCount;
+				try {
+					eventHandler.jdbcExecuteBatchStart();
+					rowCount = statement.executeUpdate();
+				}
+				finally {
+					eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+					eventHandler.jdbcExecuteBatchEnd();
+				}
+				if ( rowCount != count && isRowCountChecked( statementDetails.getExpectation() ) ) {
+					// the row count does not tell which of the rows is stale, so report the first one
+					handleStaleState(
+							new StaleStateException(
+									"Unexpected row count (expected row count " + count + " but was " + rowCount + ")"
+											+ " [" + sql + "]"
+							),
+							rows.rows.get( position ).batchPosition
+					);
+				}
+			}
+			else {
+				statement.executeUpdate();
+			}
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper.convert( e, "could not execute multi-row insert", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	private static class PendingRows {
+		private final PreparedStatementDetails statementDetails;
+		private final int maxRowsPerStatement;
+		private final ArrayList<PendingRow> rows = new ArrayList<>();
+		// null if the statement cannot be written as a multi-row insert
+		private MultiRowInsertStatements.@Nullable Shape shape;
+
+		private PendingRows(
+				PreparedStatementDetails statementDetails,
+				MultiRowInsertStatements.@Nullable Shape shape,
+				int maxRowsPerStatement) {
+			this.statementDetails = statementDetails;
+			this.shape = shape;
+			this.maxRowsPerStatement = maxRowsPerStatement;
+		}
+
+		private void add(int batchPosition, Binding[] bindings) {
+			rows.add( new PendingRow( batchPosition, bindings ) );
+		}
+	}
+
+	private record PendingRow(int batchPosition, Binding[] bindings) {
+	}
+
 	protected void releaseStatements() {
 		statementGroup.release();
 	}
@@ -253,6 +465,18 @@ protected void performExecution() {
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
+				if ( pendingRows != null ) {
+					final PendingRows rows = pendingRows.get( statementDetails.getMutatingTableDetails().getTableName() );
+					if ( rows != null && !rows.rows.isEmpty() ) {
+						try {
+							executePendingRows( rows );
+						}
+						catch (RuntimeException re) {
+							abortBatch( re );
+							throw re;
+						}
+					}
+				}
 				final PreparedStatement statement = statementDetails.getStatement();
 				if ( statement != null ) {
 					try {
@@ -309,13 +533,17 @@ private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementD
 						.verifyOutcome( rowCounts[i], statementDetails.getStatement(), i, statementDetails.getSqlString() );
 			}
 			catch ( StaleStateException staleStateException ) {
-				if ( staleStateMappers != null ) {
-					throw staleStateMappers[i].map( staleStateException );
-				}
+				handleStaleState( staleStateException, i );
 			}
 		}
 	}
 
+	private void handleStaleState(StaleStateException staleStateException, int batchPosition) {
+		if ( staleStateMappers != null ) {
+			throw staleStateMappers[batchPosition].map( staleStateException );
+		}
+	}
+
 	@Override
 	public void release() {
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
@@ -327,6 +555,7 @@ public void release() {
 		}
 		releaseStatements();
 		observers.clear();
+		pendingRows = null;
 	}
 
 	@Override
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.MutationQueryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.internal.TableInsertStandard;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Renders single-row {@code insert ... values (...)} statements as statements inserting
+ * several rows at once, using a {@code values} list of the form {@code values (...),(...)}.
+ * <p>
+ * The statements are rendered by the {@link org.hibernate.sql.ast.SqlAstTranslator} from
+ * the {@linkplain TableInsertStandard#forRowCount table insert model} of the single-row
+ * insert, so only standard inserts without returning columns are rewritten.  Statements
+ * are rendered for row counts which are powers of two, so that a batch of any size is
+ * executed using a small, bounded number of distinct SQL strings, which keeps the prepared
+ * statement cache of the driver warm.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertStatements {
+	// prevents the cache from growing unbounded with dynamic inserts
+	private static final int MAX_CACHED_SHAPES = 2048;
+
+	private final int parameterCountLimit;
+	private final int rowCountLimit;
+	private final ConcurrentHashMap<String, Shape> shapes = new ConcurrentHashMap<>();
+
+	/**
+	 * @param parameterCountLimit the maximum number of JDBC parameters of a statement,
+	 * or a non-positive number if there is no limit
+	 * @param rowCountLimit the maximum number of rows of a statement, or a non-positive
+	 * number if there is no limit
+	 */
+	public MultiRowInsertStatements(int parameterCountLimit, int rowCountLimit) {
+		this.parameterCountLimit = parameterCountLimit;
+		this.rowCountLimit = rowCountLimit;
+	}
+
+	/**
+	 * Resolve the shape of the given single-row insert statement.
+	 *
+	 * @return the shape, or {@code null} if the statement cannot be rewritten
+	 */
+	public @Nullable Shape resolveShape(PreparedStatementDetails statementDetails) {
+		final PreparableMutationOperation operation = statementDetails.getMutationOperation();
+		if ( !( operation instanceof JdbcInsertMutation insert ) ) {
+			return null;
+		}
+		final TableInsertStandard model = insert.getMultiRowInsertModel();
+		final String sql = statementDetails.getSqlString();
+		if ( model == null
+				|| insert.getParameterBinders().isEmpty()
+				|| !sql.equals( insert.getSqlString() ) ) {
+			return null;
+		}
+		// the SQL of an insert is fully determined by its model
+		final Shape shape = shapes.get( sql );
+		if ( shape != null ) {
+			return shape;
+		}
+		final Shape newShape = new Shape( model, insert.getParameterBinders().size() );
+		if ( shapes.size() < MAX_CACHED_SHAPES ) {
+			shapes.put( sql, newShape );
+		}
+		return newShape;
+	}
+
+	/**
+	 * The maximum number of rows to insert using a single statement of the given shape,
+	 * which is always a power of two.
+	 */
+	public int maxRowsPerStatement(Shape shape, int batchSize) {
+		int maxRows = batchSize;
+		if ( parameterCountLimit > 0 ) {
+			maxRows = Math.min( maxRows, parameterCountLimit / shape.parametersPerRow );
+		}
+		if ( rowCountLimit > 0 ) {
+			maxRows = Math.min( maxRows, rowCountLimit );
+		}
+		return maxRows < 1 ? 1 : Integer.highestOneBit( maxRows );
+	}
+
+	/**
+	 * The shape of a single-row insert statement, from which the statements inserting
+	 * several rows are rendered.
+	 */
+	public static final class Shape {
+		private final TableInsertStandard model;
+		private final int parametersPerRow;
+		// indexed by the base 2 logarithm of the number of rows
+		private final String[] sqlStrings = new String[Integer.SIZE];
+
+		private Shape(TableInsertStandard model, int parametersPerRow) {
+			this.model = model;
+			this.parametersPerRow = parametersPerRow;
+		}
+
+		/**
+		 * The number of JDBC parameters for each row
+		 */
+		public int getParametersPerRow() {
+			return parametersPerRow;
+		}
+
+		/**
+		 * The SQL inserting the given number of rows, which must be a power of two.
+		 */
+		public String getSqlString(int rows, SessionFactoryImplementor factory) {
+			assert Integer.bitCount( rows ) == 1;
+			final int index = Integer.numberOfTrailingZeros( rows );
+			String sql = sqlStrings[index];
+			if ( sql == null ) {
+				final TableInsertStandard multiRowInsert = model.forRowCount( rows );
+				final JdbcMutationOperation operation = factory.getJdbcServices()
+						.getJdbcEnvironment()
+						.getSqlAstTranslatorFactory()
+						.buildModelMutationTranslator( multiRowInsert, factory )
+						.translate( null, MutationQueryOptions.INSTANCE );
+				assert operation.getParameterBinders().size() == rows * parametersPerRow;
+				// racy, but the rendered String is immutable and always the same
+				sql = operation.getSqlString();
+				sqlStrings[index] = sql;
+			}
+			return sql;
+		}
+	}
+}
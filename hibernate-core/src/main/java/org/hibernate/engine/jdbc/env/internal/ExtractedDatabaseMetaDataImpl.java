@@ -10,6 +10,7 @@
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.hibernate.HibernateException;
@@ -55,6 +56,8 @@ public class ExtractedDatabaseMetaDataImpl implements ExtractedDatabaseMetaData
 	//shown to be too slow in some cases. In this way we only load it
 	//when there is actual need for these details.
 	private List<SequenceInformation> sequenceInformationList;
+	// a lock rather than a monitor, since the sequence information is read over JDBC
+	private final ReentrantLock sequenceInformationListLock = new ReentrantLock();
 
 	private ExtractedDatabaseMetaDataImpl(
 			JdbcEnvironment jdbcEnvironment,
@@ -169,16 +172,22 @@ public int getDefaultTransactionIsolation() {
 	}
 
 	@Override
-	public synchronized List<SequenceInformation> getSequenceInformationList() {
+	public List<SequenceInformation> getSequenceInformationList() {
 		if ( jdbcMetadataAccessible ) {
 			//Loading the sequence information can take a while on large databases,
 			//even minutes in some cases.
 			//We trigger this lazily as only certain combinations of configurations,
 			//mappings and used features actually trigger any use of such details.
-			if ( sequenceInformationList == null ) {
-				sequenceInformationList = sequenceInformationList();
+			sequenceInformationListLock.lock();
+			try {
+				if ( sequenceInformationList == null ) {
+					sequenceInformationList = sequenceInformationList();
+				}
+				return sequenceInformationList;
+			}
+			finally {
+				sequenceInformationListLock.unlock();
 			}
-			return sequenceInformationList;
 		}
 		else {
 			return Collections.emptyList();
@@ -10,8 +10,11 @@
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Descriptor for details about a {@link PreparedStatement}
  *
@@ -29,6 +32,15 @@ public interface PreparedStatementDetails {
 	 */
 	String getSqlString();
 
+	/**
+	 * The operation the SQL was translated from, if known
+	 *
+	 * @since 7.0
+	 */
+	default @Nullable PreparableMutationOperation getMutationOperation() {
+		return null;
+	}
+
 	/**
 	 * The {@link PreparedStatement} generated from the SQL.  May return null.
 	 *
@@ -22,6 +22,7 @@
  * @author Steve Ebersole
  */
 public class PreparedStatementDetailsStandard implements PreparedStatementDetails {
+	private final PreparableMutationOperation mutationOperation;
 	private final TableMapping mutatingTableDetails;
 	private final String sql;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
@@ -51,6 +52,7 @@ public PreparedStatementDetailsStandard(
 			Supplier<PreparedStatement> jdbcStatementCreator,
 			Expectation expectation,
 			JdbcServices jdbcServices) {
+		this.mutationOperation = tableMutation;
 		this.mutatingTableDetails = tableMutation.getTableDetails();
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
@@ -63,6 +65,11 @@ public TableMapping getMutatingTableDetails() {
 		return mutatingTableDetails;
 	}
 
+	@Override
+	public PreparableMutationOperation getMutationOperation() {
+		return mutationOperation;
+	}
+
 	@Override
 	public void releaseStatement(SharedSessionContractImplementor session) {
 		if ( statement != null ) {
@@ -9,6 +9,7 @@
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -16,6 +17,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
@@ -40,6 +42,7 @@
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.engine.internal.EntityInsertDependencies;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -1094,11 +1097,16 @@ private TransactionCompletionProcesses(
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
+	 * The algorithm groups all inserts by entity type, keeping the original order of the inserts within each group,
+	 * and schedules these groups one by one, as long as all the groups of the entity types they depend on, according
+	 * to the {@linkplain SessionFactoryImplementor#getEntityInsertDependencies() dependencies between entity types}
+	 * declared by the mapping, are already scheduled. This is linear in the number of inserts.
 	 * </p>
-	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
+	 * Entity types with circular dependencies are condensed into strongly connected components, which are scheduled
+	 * like the groups of the other entity types. Within such a component, the algorithm falls back to discovering the
+	 * transitive incoming dependencies for every insert action, grouping the inserts by the entity name, and
+	 * scheduling these groups one by one, as long as all the dependencies of the groups are fulfilled.
+	 * This will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
 	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
 	 * The inserts of insert groups which can't be scheduled, are going to be inserted in the original order.
 	 */
@@ -1255,6 +1263,166 @@ public InsertActionSorter() {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
+			// Group the insert actions by entity type, keeping their original order within each group
+			final Map<EntityPersister, List<AbstractEntityInsertAction>> insertionsByPersister = new LinkedHashMap<>();
+			for ( AbstractEntityInsertAction insertAction : insertions ) {
+				insertionsByPersister.computeIfAbsent( insertAction.getPersister(), persister -> new ArrayList<>() )
+						.add( insertAction );
+			}
+			if ( insertionsByPersister.size() > 1 ) {
+				final EntityPersister[] persisters = insertionsByPersister.keySet().toArray( new EntityPersister[0] );
+				final int[][] dependencies = dependencies(
+						persisters,
+						insertions.get( 0 ).getSession().getFactory().getEntityInsertDependencies()
+				);
+				// Condense the circular dependencies between entity types into strongly connected components,
+				// which leaves the components with no circular dependencies between them
+				final int[] componentOfPersister = new StronglyConnectedComponents( dependencies ).componentOfVertex;
+				final Map<Integer, InsertComponent> componentsByNumber = new LinkedHashMap<>();
+				for ( int i = 0; i < persisters.length; i++ ) {
+					componentsByNumber.computeIfAbsent( componentOfPersister[i], number -> new InsertComponent() )
+							.persisters.add( persisters[i] );
+				}
+				for ( int i = 0; i < persisters.length; i++ ) {
+					for ( int dependency : dependencies[i] ) {
+						if ( componentOfPersister[dependency] != componentOfPersister[i] ) {
+							componentsByNumber.get( componentOfPersister[i] ).dependencies
+									.add( componentOfPersister[dependency] );
+						}
+					}
+				}
+
+				final List<AbstractEntityInsertAction> sortedInsertions = new ArrayList<>( insertions.size() );
+				// Schedule the components for which all the components they depend on are already scheduled,
+				// over and over again, which eventually schedules all of them
+				while ( !componentsByNumber.isEmpty() ) {
+					final Iterator<InsertComponent> iterator = componentsByNumber.values().iterator();
+					while ( iterator.hasNext() ) {
+						final InsertComponent component = iterator.next();
+						if ( !containsAny( componentsByNumber, component.dependencies ) ) {
+							if ( component.persisters.size() == 1 ) {
+								sortedInsertions.addAll( insertionsByPersister.get( component.persisters.get( 0 ) ) );
+							}
+							else {
+								// The entity types have circular dependencies,
+								// so we need to look at the actual entity instances
+								final List<AbstractEntityInsertAction> componentInsertions = new ArrayList<>();
+								for ( AbstractEntityInsertAction insertAction : insertions ) {
+									if ( component.persisters.contains( insertAction.getPersister() ) ) {
+										componentInsertions.add( insertAction );
+									}
+								}
+								sortByInstanceDependencies( componentInsertions );
+								sortedInsertions.addAll( componentInsertions );
+							}
+							iterator.remove();
+						}
+					}
+				}
+
+				insertions.clear();
+				insertions.addAll( sortedInsertions );
+			}
+		}
+
+		/**
+		 * @return for each of the given persisters, the indexes of the persisters it depends on
+		 */
+		private static int[][] dependencies(
+				EntityPersister[] persisters,
+				EntityInsertDependencies entityInsertDependencies) {
+			final Map<EntityPersister, Integer> indexes = new IdentityHashMap<>( persisters.length );
+			for ( int i = 0; i < persisters.length; i++ ) {
+				indexes.put( persisters[i], i );
+			}
+			final int[][] dependencies = new int[persisters.length][];
+			for ( int i = 0; i < persisters.length; i++ ) {
+				// the collections are written once all the entities have been inserted
+				dependencies[i] = entityInsertDependencies.getDependencies( persisters[i], false ).stream()
+						.map( indexes::get )
+						.filter( Objects::nonNull )
+						.mapToInt( Integer::intValue )
+						.toArray();
+			}
+			return dependencies;
+		}
+
+		private static boolean containsAny(Map<Integer, InsertComponent> componentsByNumber, Set<Integer> numbers) {
+			for ( Integer number : numbers ) {
+				if ( componentsByNumber.containsKey( number ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * A strongly connected component of the graph of the dependencies between entity types.
+		 */
+		private static class InsertComponent {
+			private final List<EntityPersister> persisters = new ArrayList<>( 1 );
+			// the numbers of the other components this component depends on
+			private final Set<Integer> dependencies = new HashSet<>();
+		}
+
+		/**
+		 * Tarjan's algorithm, numbering the strongly connected components of a directed graph.
+		 */
+		private static class StronglyConnectedComponents {
+			private final int[][] edges;
+			private final int[] componentOfVertex;
+			private final int[] visitIndex;
+			private final int[] lowLink;
+			private final boolean[] onStack;
+			private final int[] stack;
+			private int stackSize;
+			private int visitCount;
+			private int componentCount;
+
+			private StronglyConnectedComponents(int[][] edges) {
+				this.edges = edges;
+				final int vertexCount = edges.length;
+				componentOfVertex = new int[vertexCount];
+				visitIndex = new int[vertexCount];
+				lowLink = new int[vertexCount];
+				onStack = new boolean[vertexCount];
+				stack = new int[vertexCount];
+				Arrays.fill( visitIndex, -1 );
+				for ( int vertex = 0; vertex < vertexCount; vertex++ ) {
+					if ( visitIndex[vertex] < 0 ) {
+						visit( vertex );
+					}
+				}
+			}
+
+			private void visit(int vertex) {
+				visitIndex[vertex] = lowLink[vertex] = visitCount++;
+				stack[stackSize++] = vertex;
+				onStack[vertex] = true;
+				for ( int successor : edges[vertex] ) {
+					if ( visitIndex[successor] < 0 ) {
+						visit( successor );
+						lowLink[vertex] = Math.min( lowLink[vertex], lowLink[successor] );
+					}
+					else if ( onStack[successor] ) {
+						lowLink[vertex] = Math.min( lowLink[vertex], visitIndex[successor] );
+					}
+				}
+				if ( lowLink[vertex] == visitIndex[vertex] ) {
+					// the vertex is the root of a component made of the vertices above it on the stack
+					int member;
+					do {
+						member = stack[--stackSize];
+						onStack[member] = false;
+						componentOfVertex[member] = componentCount;
+					}
+					while ( member != vertex );
+					componentCount++;
+				}
+			}
+		}
+
+		private void sortByInstanceDependencies(List<AbstractEntityInsertAction> insertions) {
 			final int insertInfoCount = insertions.size();
 			// Build up dependency metadata for insert actions
 			final InsertInfo[] insertInfos = new InsertInfo[insertInfoCount];
@@ -176,6 +176,18 @@ public void removeBatchLoadableEntityKey(EntityKey key) {
 		}
 	}
 
+	/**
+	 * The number of entities of the given type which are currently
+	 * eligible for batch-fetching, some of which may be cached.
+	 */
+	public int getBatchLoadableEntityKeyCount(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		return set == null ? 0 : set.size();
+	}
+
 	/**
 	 * Intended for test usage. Really has no use-case in Hibernate proper.
 	 */
@@ -359,6 +371,19 @@ public void removeBatchLoadableCollection(CollectionEntry ce) {
 	}
 
 
+	/**
+	 * The number of collections of the given role which are currently
+	 * eligible for batch-fetching, some of which may be cached.
+	 */
+	public int getBatchLoadableCollectionCount(PluralAttributeMapping pluralAttributeMapping) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+				batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+		return map == null ? 0 : map.size();
+	}
+
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -8,6 +8,7 @@
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.UUID;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.persister.entity.EntityPersister;
@@ -25,6 +26,11 @@
  * <p>
  * Performance considerations: lots of instances of this type are created at runtime. Make sure each one is as small as possible
  * by storing just the essential needed.
+ * <p>
+ * The hash code is computed once, on creation. When the identifier is a {@link Long}, {@link Integer},
+ * {@link UUID} or {@link String}, as {@linkplain EntityPersister#getEntityKeyIdentifierKind() determined}
+ * by the persister at bootstrap, the identifiers are hashed and compared directly, without going through
+ * the {@link Type} of the identifier.
  *
  * @author Gavin King
  * @author Sanne Grinovero
@@ -34,6 +40,7 @@ public final class EntityKey implements Serializable {
 	private final Object identifier;
 	private final int hashCode;
 	private final EntityPersister persister;
+	private final IdentifierKind identifierKind;
 
 	/**
 	 * Construct a unique identifier for an entity class instance.
@@ -51,6 +58,7 @@ public EntityKey(@Nullable Object id, EntityPersister persister) {
 			throw new AssertionFailure( "null identifier (" + persister.getEntityName() + ")" );
 		}
 		this.identifier = id;
+		this.identifierKind = persister.getEntityKeyIdentifierKind();
 		this.hashCode = generateHashCode();
 	}
 
@@ -58,11 +66,30 @@ private int generateHashCode() {
 		int result = 17;
 		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + rootEntityName.hashCode();
-		final Type identifierType = persister.getIdentifierType().getTypeForEqualsHashCode();
-		result = 37 * result + ( identifierType == null ? identifier.hashCode() : identifierType.getHashCode( identifier, persister.getFactory() ) );
+		result = 37 * result + identifierHashCode();
 		return result;
 	}
 
+	private int identifierHashCode() {
+		// the specialized variants produce the same hash as the identifier type,
+		// and fall back to Object.hashCode() for an identifier of the wrong type
+		switch ( identifierKind ) {
+			case LONG:
+				return identifier instanceof Long id ? Long.hashCode( id ) : identifier.hashCode();
+			case INTEGER:
+				return identifier instanceof Integer id ? Integer.hashCode( id ) : identifier.hashCode();
+			case UUID:
+				return identifier instanceof UUID id ? id.hashCode() : identifier.hashCode();
+			case STRING:
+				return identifier instanceof String id ? id.hashCode() : identifier.hashCode();
+			default:
+				final Type identifierType = persister.getIdentifierType().getTypeForEqualsHashCode();
+				return identifierType == null
+						? identifier.hashCode()
+						: identifierType.getHashCode( identifier, persister.getFactory() );
+		}
+	}
+
 	public boolean isBatchLoadable(LoadQueryInfluencers influencers) {
 		return influencers.effectivelyBatchLoadable( persister );
 	}
@@ -99,10 +126,33 @@ public boolean equals(@Nullable Object other) {
 	}
 
 	private boolean sameIdentifier(final EntityKey otherKey) {
-		final Type identifierType;
-		return this.identifier == otherKey.identifier || (
-				(identifierType = persister.getIdentifierType().getTypeForEqualsHashCode()) == null && identifier.equals( otherKey.identifier )
-						|| identifierType != null && identifierType.isEqual( otherKey.identifier, this.identifier, persister.getFactory() ) );
+		final Object otherIdentifier = otherKey.identifier;
+		if ( identifier == otherIdentifier ) {
+			return true;
+		}
+		switch ( identifierKind ) {
+			case LONG:
+				return identifier instanceof Long id && otherIdentifier instanceof Long otherId
+						? id.longValue() == otherId.longValue()
+						: identifier.equals( otherIdentifier );
+			case INTEGER:
+				return identifier instanceof Integer id && otherIdentifier instanceof Integer otherId
+						? id.intValue() == otherId.intValue()
+						: identifier.equals( otherIdentifier );
+			case UUID:
+				return identifier instanceof UUID id && otherIdentifier instanceof UUID otherId
+						? id.equals( otherId )
+						: identifier.equals( otherIdentifier );
+			case STRING:
+				return identifier instanceof String id && otherIdentifier instanceof String otherId
+						? id.equals( otherId )
+						: identifier.equals( otherIdentifier );
+			default:
+				final Type identifierType = persister.getIdentifierType().getTypeForEqualsHashCode();
+				return identifierType == null
+						? identifier.equals( otherIdentifier )
+						: identifierType.isEqual( otherIdentifier, identifier, persister.getFactory() );
+		}
 	}
 
 	private boolean samePersistentType(final EntityKey otherKey) {
@@ -120,6 +170,53 @@ public String toString() {
 		return "EntityKey" + MessageHelper.infoString( this.persister, identifier, persister.getFactory() );
 	}
 
+	/**
+	 * The kinds of identifier for which an {@code EntityKey} hashes and compares
+	 * identifiers directly, rather than through the {@link Type} of the identifier.
+	 *
+	 * @see EntityPersister#getEntityKeyIdentifierKind()
+	 *
+	 * @since 7.0
+	 */
+	public enum IdentifierKind {
+		LONG,
+		INTEGER,
+		UUID,
+		STRING,
+		/**
+		 * Any other identifier, hashed and compared through its {@link Type}
+		 */
+		OTHER;
+
+		/**
+		 * Determine the kind of identifier of the given identifier type.
+		 * Only the types which hash and compare identifiers by
+		 * {@link Object#hashCode()} and {@link Object#equals(Object)}
+		 * are specialized.
+		 */
+		public static IdentifierKind forIdentifierType(Type identifierType) {
+			if ( identifierType.getTypeForEqualsHashCode() != null ) {
+				return OTHER;
+			}
+			final Class<?> identifierClass = identifierType.getReturnedClass();
+			if ( identifierClass == Long.class ) {
+				return LONG;
+			}
+			else if ( identifierClass == Integer.class ) {
+				return INTEGER;
+			}
+			else if ( identifierClass == java.util.UUID.class ) {
+				return UUID;
+			}
+			else if ( identifierClass == String.class ) {
+				return STRING;
+			}
+			else {
+				return OTHER;
+			}
+		}
+	}
+
 	/**
 	 * Custom serialization routine used during serialization of a
 	 * Session/PersistenceContext for increased performance.
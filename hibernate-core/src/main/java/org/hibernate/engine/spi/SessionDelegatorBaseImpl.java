@@ -69,6 +69,7 @@
 import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.metamodel.Metamodel;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.format.FormatMapper;
 
 /**
@@ -1160,6 +1161,11 @@ public Integer getJdbcBatchSize() {
 		return delegate.getJdbcBatchSize();
 	}
 
+	@Override
+	public @Nullable WrapperOptions getJdbcValueBindingOptions() {
+		return delegate.getJdbcValueBindingOptions();
+	}
+
 	@Override
 	public EventMonitor getEventMonitor() {
 		return delegate.getEventMonitor();
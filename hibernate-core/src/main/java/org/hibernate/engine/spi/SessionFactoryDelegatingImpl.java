@@ -33,6 +33,7 @@
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.internal.EntityInsertDependencies;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.event.service.spi.EventListenerRegistry;
@@ -132,6 +133,11 @@ public EventEngine getEventEngine() {
 		return delegate.getEventEngine();
 	}
 
+	@Override
+	public EntityInsertDependencies getEntityInsertDependencies() {
+		return delegate.getEntityInsertDependencies();
+	}
+
 	@Override
 	public void close() throws HibernateException {
 		delegate.close();
@@ -16,6 +16,7 @@
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.internal.EntityInsertDependencies;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.event.service.spi.EventListenerRegistry;
@@ -142,6 +143,16 @@ default JpaMetamodel getJpaMetamodel() {
 	 */
 	EventEngine getEventEngine();
 
+	/**
+	 * The dependencies between entity types which determine the order of insertions.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ORDER_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	@Internal
+	EntityInsertDependencies getEntityInsertDependencies();
+
 	/**
 	 * Retrieve a {@linkplain FetchProfile fetch profile} by name.
 	 *
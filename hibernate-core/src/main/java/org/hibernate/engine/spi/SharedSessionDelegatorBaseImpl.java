@@ -40,6 +40,7 @@
 import org.hibernate.query.sql.spi.NativeQueryImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.transaction.spi.TransactionCoordinator;
+import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.format.FormatMapper;
 
 import java.util.List;
@@ -321,6 +322,11 @@ public Integer getJdbcBatchSize() {
 		return delegate.getJdbcBatchSize();
 	}
 
+	@Override
+	public @Nullable WrapperOptions getJdbcValueBindingOptions() {
+		return delegate.getJdbcValueBindingOptions();
+	}
+
 	@Override
 	public EventMonitor getEventMonitor() {
 		return delegate.getEventMonitor();
@@ -13,6 +13,7 @@
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Nullability.NullabilityCheckType;
 import org.hibernate.engine.internal.Versioning;
@@ -36,6 +37,7 @@
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CollectionType;
 import org.hibernate.type.Type;
 
 import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
@@ -131,7 +133,7 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 		final EntityEntry entry = event.getEntityEntry();
 		final EventSource session = event.getSession();
 
-		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
+		final boolean mightBeDirty = entry.requiresDirtyCheck( entity ) && !isNonDirtyViaTracker( entity, entry );
 
 		final Object[] values = getValues( entity, entry, mightBeDirty, session );
 
@@ -162,6 +164,53 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 	}
 
+	/**
+	 * An entity with collections is never reported as unequivocally non-dirty by
+	 * {@link EntityEntry#requiresDirtyCheck}, since its collections must still be
+	 * visited on every flush. But if the entity tracks its own dirtiness, has no
+	 * mutable properties, reports no dirty attributes, and still references the
+	 * very collection wrappers of its loaded state, then its loaded state is an
+	 * exact image of its current state. We may then visit the loaded state instead
+	 * of extracting the current state into a new array, and skip the dirty check
+	 * altogether.
+	 */
+	private static boolean isNonDirtyViaTracker(Object entity, EntityEntry entry) {
+		if ( entry.getStatus() == Status.MANAGED
+				&& entry.getLoadedState() != null
+				&& isSelfDirtinessTracker( entity ) ) {
+			final EntityPersister persister = entry.getPersister();
+			return persister.hasCollections()
+				&& !persister.hasMutableProperties()
+				&& asManagedEntity( entity ).$$_hibernate_useTracker()
+				&& !asSelfDirtinessTracker( entity ).$$_hibernate_hasDirtyAttributes()
+				&& !isUninitializedEnhanced( entity )
+				&& hasLoadedCollections( entity, persister, entry.getLoadedState() );
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * The enhancer does not track the assignment of a collection field, and the
+	 * tracker only compares the sizes of the collections, so a collection replaced
+	 * by another one of the same size goes unnoticed: make sure that every collection
+	 * field still holds the collection wrapper of the loaded state.
+	 */
+	private static boolean hasLoadedCollections(Object entity, EntityPersister persister, Object[] loadedState) {
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( types[i] instanceof CollectionType ) {
+				final Object loadedValue = loadedState[i];
+				if ( !( loadedValue instanceof PersistentCollection )
+						|| persister.getValue( entity, i ) != loadedValue ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
 		if ( entry.getStatus() == Status.DELETED ) {
 			//grab its state saved at deletion
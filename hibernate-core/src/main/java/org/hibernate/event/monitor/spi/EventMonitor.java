@@ -201,6 +201,36 @@ void completePrePartialFlush(
 
 	void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session);
 
+	// the query events are optional, and ignored unless implemented
+
+	default DiagnosticEvent beginQueryInterpretationEvent() {
+		return null;
+	}
+
+	default void completeQueryInterpretationEvent(DiagnosticEvent event, String hql, boolean cacheHit, SharedSessionContractImplementor session) {
+	}
+
+	default DiagnosticEvent beginSqmTranslationEvent() {
+		return null;
+	}
+
+	default void completeSqmTranslationEvent(DiagnosticEvent event, String hql, SharedSessionContractImplementor session) {
+	}
+
+	default DiagnosticEvent beginSqlRenderingEvent() {
+		return null;
+	}
+
+	default void completeSqlRenderingEvent(DiagnosticEvent event, String sql, SharedSessionContractImplementor session) {
+	}
+
+	default DiagnosticEvent beginResultHydrationEvent() {
+		return null;
+	}
+
+	default void completeResultHydrationEvent(DiagnosticEvent event, int rowCount, int resultCount, SharedSessionContractImplementor session) {
+	}
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -26,4 +26,17 @@ public interface AccessCallback {
 	 * @return The tenant identifier
 	 */
 	String getTenantIdentifier();
+
+	/**
+	 * Obtain a callback to the same underlying source which does not make use of the
+	 * session of this callback, and which may therefore be used from another thread.
+	 *
+	 * @return The isolated callback, or {@code null} if the underlying source cannot
+	 * be accessed independently of the session
+	 *
+	 * @since 7.0
+	 */
+	default AccessCallback getIsolatedCallback() {
+		return null;
+	}
 }
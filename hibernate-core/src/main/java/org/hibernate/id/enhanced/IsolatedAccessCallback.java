@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentInitiator.ConnectionProviderJdbcConnectionAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * An {@link AccessCallback} which obtains each value from the {@link DatabaseStructure}
+ * over a connection of its own, obtained directly from the {@link ConnectionProvider},
+ * or from the {@link MultiTenantConnectionProvider} for the tenant of the session it was
+ * created from.  No session is involved, so that no session events are fired, and the
+ * callback may be used from any thread.
+ *
+ * @see AccessCallback#getIsolatedCallback()
+ */
+abstract class IsolatedAccessCallback implements AccessCallback {
+	private final SessionFactoryImplementor sessionFactory;
+	private final Object tenantIdentifierValue;
+	private final String tenantIdentifier;
+
+	IsolatedAccessCallback(SharedSessionContractImplementor session) {
+		this.sessionFactory = session.getFactory();
+		this.tenantIdentifierValue = session.getTenantIdentifierValue();
+		this.tenantIdentifier = session.getTenantIdentifier();
+	}
+
+	/**
+	 * Obtain the next value over the given connection.
+	 */
+	abstract IntegralDataTypeHolder getNextValue(Connection connection) throws SQLException;
+
+	SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	@Override
+	public IntegralDataTypeHolder getNextValue() {
+		return new JdbcIsolationDelegate(
+				buildJdbcConnectionAccess(),
+				sessionFactory.getJdbcServices().getSqlExceptionHelper()
+		).delegateWork(
+				new AbstractReturningWork<>() {
+					@Override
+					public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+						return getNextValue( connection );
+					}
+				},
+				true
+		);
+	}
+
+	private JdbcConnectionAccess buildJdbcConnectionAccess() {
+		final ServiceRegistryImplementor serviceRegistry = sessionFactory.getServiceRegistry();
+		if ( !sessionFactory.getSessionFactoryOptions().isMultiTenancyEnabled() ) {
+			return new ConnectionProviderJdbcConnectionAccess(
+					serviceRegistry.requireService( ConnectionProvider.class )
+			);
+		}
+		else {
+			@SuppressWarnings("unchecked")
+			final MultiTenantConnectionProvider<Object> connectionProvider =
+					serviceRegistry.requireService( MultiTenantConnectionProvider.class );
+			return new JdbcConnectionAccess() {
+				@Override
+				public Connection obtainConnection() throws SQLException {
+					return connectionProvider.getConnection( tenantIdentifierValue );
+				}
+
+				@Override
+				public void releaseConnection(Connection connection) throws SQLException {
+					connectionProvider.releaseConnection( tenantIdentifierValue, connection );
+				}
+
+				@Override
+				public boolean supportsAggressiveRelease() {
+					return connectionProvider.supportsAggressiveRelease();
+				}
+			};
+		}
+	}
+
+	@Override
+	public String getTenantIdentifier() {
+		return tenantIdentifier;
+	}
+
+	@Override
+	public AccessCallback getIsolatedCallback() {
+		return this;
+	}
+}
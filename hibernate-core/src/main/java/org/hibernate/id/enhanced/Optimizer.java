@@ -25,8 +25,11 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * @implNote All known implementors are synchronized. Consider carefully
-	 *           if a new implementation could drop this requirement.
+	 * @implNote All known implementors are thread-safe, either guarding their
+	 *           state with a {@link java.util.concurrent.locks.Lock}, rather than
+	 *           a monitor which would pin a virtual thread, or without locking at
+	 *           all. Consider carefully if a new implementation could drop this
+	 *           requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+/**
+ * Variation of {@link PooledLoStripedOptimizer} which obtains the next block of
+ * values of a stripe from a background thread, over a connection of its own, once
+ * three quarters of the current block are consumed.  An inserting thread only pays
+ * the database round trip when the next block did not arrive in time.
+ * <p>
+ * Falls back to obtaining the next block on the inserting thread when the
+ * {@link DatabaseStructure} cannot be accessed independently of the session.
+ *
+ * @see AccessCallback#getIsolatedCallback()
+ *
+ * @since 7.0
+ */
+public class PooledLoPrefetchOptimizer extends PooledLoStripedOptimizer {
+	/**
+	 * Constructs a {@code PooledLoPrefetchOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoPrefetchOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize, true );
+	}
+}
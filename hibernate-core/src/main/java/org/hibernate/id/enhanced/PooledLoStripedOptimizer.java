@@ -0,0 +1,334 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.extractLong;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which splits the pool of values across
+ * a fixed number of stripes, instead of guarding a single generation state with
+ * a lock.
+ * <p>
+ * Each stripe hands out the values of its own block, obtained from the database
+ * structure, without locking. A thread draws values from the stripe picked from
+ * a hash of the thread, so concurrent inserting threads rarely contend on the same
+ * block.
+ * Once three quarters of a block are consumed, the thread which draws the value at
+ * that point obtains the next block of the stripe, paying the database round trip
+ * itself, while the other threads keep drawing values from the current block. A
+ * thread only waits for the database when the block of its stripe is exhausted
+ * before the next one was obtained, and a block obtained by a thread which lost the
+ * race to replace an exhausted block is kept for later, so that no values are skipped.
+ * <p>
+ * Unlike {@link PooledLoThreadLocalOptimizer}, the values left unused when the
+ * optimizer is discarded are bounded by the number of stripes, rather than by
+ * the number of threads which ever generated an identifier, which makes this
+ * optimizer suitable for virtual threads.
+ * <p>
+ * When {@linkplain #PooledLoStripedOptimizer(Class, int, boolean) requested}, the next
+ * block of a stripe is obtained by a background thread, over a connection of its own,
+ * so that inserting threads only ever pay the database round trip when the background
+ * thread did not obtain the next block in time.  There are at most as many background
+ * threads as stripes, and they are stopped when the {@code SessionFactory} is closed.
+ *
+ * @see PooledLoOptimizer
+ * @see PooledLoThreadLocalOptimizer
+ */
+public class PooledLoStripedOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PooledLoStripedOptimizer.class.getName()
+	);
+
+	private static final int MAX_STRIPES = 64;
+
+	private final int stripeCount;
+	private final boolean prefetchInBackground;
+	// the offset in a block at which the next block of the stripe is obtained
+	private final int prefetchOffset;
+
+	private final GenerationState noTenantState;
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	// only created once a background prefetch is requested
+	private volatile ExecutorService prefetchExecutor;
+	private final Lock prefetchExecutorLock = new ReentrantLock();
+
+	/**
+	 * Constructs a {@code PooledLoStripedOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoStripedOptimizer(Class<?> returnClass, int incrementSize) {
+		this( returnClass, incrementSize, false );
+	}
+
+	/**
+	 * Constructs a {@code PooledLoStripedOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 * @param prefetchInBackground Whether the next block of a stripe should be
+	 * obtained by a background thread, when the underlying source allows it
+	 *
+	 * @see AccessCallback#getIsolatedCallback()
+	 */
+	protected PooledLoStripedOptimizer(Class<?> returnClass, int incrementSize, boolean prefetchInBackground) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		this.prefetchInBackground = prefetchInBackground;
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+		stripeCount = stripeCount( Runtime.getRuntime().availableProcessors() );
+		// with a very small increment size, blocks are never obtained ahead
+		prefetchOffset = incrementSize - incrementSize / 4;
+		noTenantState = new GenerationState( stripeCount );
+	}
+
+	/**
+	 * The smallest power of two accommodating the given number of processors,
+	 * so that a stripe is picked by masking the hash of the thread.
+	 */
+	private static int stripeCount(int processors) {
+		final int count = Integer.highestOneBit( Math.max( 1, processors ) );
+		return Math.min( count < processors ? count << 1 : count, MAX_STRIPES );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		return locateGenerationState( callback.getTenantIdentifier() )
+				.locateStripe()
+				.generate( callback );
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState( stripeCount ) );
+	}
+
+	/**
+	 * The number of stripes the pool of values is split across.
+	 */
+	public int getStripeCount() {
+		return stripeCount;
+	}
+
+	// for Hibernate testsuite use only
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * The executor running the background prefetches, which is shut down along with
+	 * the given {@code SessionFactory}.  A prefetch is discarded when all the threads
+	 * are busy, in which case the inserting thread obtains the next block itself.
+	 */
+	private Executor prefetchExecutor(SessionFactoryImplementor sessionFactory) {
+		ExecutorService executor = prefetchExecutor;
+		if ( executor == null ) {
+			prefetchExecutorLock.lock();
+			try {
+				executor = prefetchExecutor;
+				if ( executor == null ) {
+					final ExecutorService newExecutor = new ThreadPoolExecutor(
+							0,
+							stripeCount,
+							10,
+							TimeUnit.SECONDS,
+							new SynchronousQueue<>(),
+							new PrefetchThreadFactory(),
+							new ThreadPoolExecutor.DiscardPolicy()
+					);
+					sessionFactory.addObserver( new SessionFactoryObserver() {
+						@Override
+						public void sessionFactoryClosing(SessionFactory factory) {
+							newExecutor.shutdownNow();
+						}
+					} );
+					prefetchExecutor = executor = newExecutor;
+				}
+			}
+			finally {
+				prefetchExecutorLock.unlock();
+			}
+		}
+		return executor;
+	}
+
+	private class GenerationState {
+		private final Stripe[] stripes;
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private GenerationState(int stripeCount) {
+			stripes = new Stripe[stripeCount];
+			for ( int i = 0; i < stripeCount; i++ ) {
+				stripes[i] = new Stripe( this );
+			}
+		}
+
+		private Stripe locateStripe() {
+			// Thread.getId() is deprecated, and Thread.threadId() requires Java 19
+			final int hash = System.identityHashCode( Thread.currentThread() );
+			return stripes[( hash ^ ( hash >>> 16 ) ) & ( stripes.length - 1 )];
+		}
+
+		private Block obtainBlock(AccessCallback callback) {
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			lastSourceValue = sourceValue;
+			return new Block( sourceValue, incrementSize, returnClass );
+		}
+	}
+
+	private class Stripe {
+		private final GenerationState state;
+		// the block values are currently drawn from
+		private final AtomicReference<Block> current = new AtomicReference<>();
+		// the blocks obtained ahead of the exhaustion of the current one, usually at most one
+		private final Queue<Block> spareBlocks = new ConcurrentLinkedQueue<>();
+
+		private Stripe(GenerationState state) {
+			this.state = state;
+		}
+
+		private Serializable generate(AccessCallback callback) {
+			while ( true ) {
+				final Block block = current.get();
+				if ( block != null ) {
+					final int offset = block.offset.getAndIncrement();
+					if ( offset < block.size ) {
+						if ( offset == prefetchOffset ) {
+							// only ever one thread draws this offset
+							prefetch( callback );
+						}
+						return block.valueAt( offset );
+					}
+				}
+				// the block is exhausted: install a block obtained ahead, if any
+				Block replacement = spareBlocks.poll();
+				if ( replacement == null ) {
+					replacement = state.obtainBlock( callback );
+				}
+				if ( !current.compareAndSet( block, replacement ) ) {
+					// another thread replaced the block first, keep ours for later
+					spareBlocks.add( replacement );
+				}
+			}
+		}
+
+		private void prefetch(AccessCallback callback) {
+			if ( spareBlocks.isEmpty() ) {
+				final AccessCallback isolatedCallback =
+						prefetchInBackground ? callback.getIsolatedCallback() : null;
+				if ( isolatedCallback instanceof IsolatedAccessCallback isolatedAccessCallback ) {
+					prefetchExecutor( isolatedAccessCallback.getSessionFactory() )
+							.execute( () -> prefetchInBackground( isolatedCallback ) );
+				}
+				else {
+					spareBlocks.add( state.obtainBlock( callback ) );
+				}
+			}
+		}
+
+		private void prefetchInBackground(AccessCallback isolatedCallback) {
+			try {
+				spareBlocks.add( state.obtainBlock( isolatedCallback ) );
+			}
+			catch (RuntimeException e) {
+				// the inserting thread will obtain the next block itself
+				LOG.debug( "Unable to obtain the next block of identifier values in the background", e );
+			}
+		}
+	}
+
+	private static class Block {
+		private final Class<?> returnClass;
+		// the first value of the block
+		private final long first;
+		private final int size;
+		// the offset of the next value to hand out
+		private final AtomicInteger offset = new AtomicInteger();
+
+		private Block(IntegralDataTypeHolder sourceValue, int incrementSize, Class<?> returnClass) {
+			this.returnClass = returnClass;
+			long value = extractLong( sourceValue );
+			int size = incrementSize;
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			while ( value < 1 && size > 0 ) {
+				value++;
+				size--;
+			}
+			this.first = value;
+			this.size = size;
+		}
+
+		private Serializable valueAt(int offset) {
+			final long value = first + offset;
+			if ( returnClass == Long.class ) {
+				return value;
+			}
+			else if ( returnClass == Integer.class ) {
+				return (int) value;
+			}
+			else if ( returnClass == Short.class ) {
+				return (short) value;
+			}
+			else if ( returnClass == BigInteger.class ) {
+				return BigInteger.valueOf( value );
+			}
+			else {
+				return BigDecimal.valueOf( value );
+			}
+		}
+	}
+
+	private static class PrefetchThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Identifier Prefetch Thread" );
+			return thread;
+		}
+	}
+}
@@ -5,9 +5,11 @@
 package org.hibernate.id.enhanced;
 
 import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.boot.model.relational.Database;
@@ -45,7 +47,8 @@ public class SequenceStructure implements DatabaseStructure {
 
 	private String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	// also incremented by the background threads of PooledLoStripedOptimizer
+	private final AtomicInteger accessCounter = new AtomicInteger();
 	protected QualifiedName physicalSequenceName;
 
 	public SequenceStructure(
@@ -91,7 +94,7 @@ public int getIncrementSize() {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -113,7 +116,7 @@ public AccessCallback buildCallback(final SharedSessionContractImplementor sessi
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
 					final PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
@@ -156,6 +159,27 @@ public IntegralDataTypeHolder getNextValue() {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback getIsolatedCallback() {
+				return new IsolatedAccessCallback( session ) {
+					@Override
+					IntegralDataTypeHolder getNextValue(Connection connection) throws SQLException {
+						accessCounter.incrementAndGet();
+						getSessionFactory().getJdbcServices().getSqlStatementLogger().logStatement( sql );
+						try ( PreparedStatement st = connection.prepareStatement( sql );
+								ResultSet rs = st.executeQuery() ) {
+							rs.next();
+							final IntegralDataTypeHolder value = getIntegralDataTypeHolder( numberType );
+							value.initialize( rs, 1 );
+							if ( LOG.isDebugEnabled() ) {
+								LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+							}
+							return value;
+						}
+					}
+				};
+			}
 		};
 	}
 
@@ -42,7 +42,23 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the lo value is stored in the database and the generation state is
+	 * split across lock-free stripes.
+	 *
+	 * @since 7.0
+	 */
+	POOLED_LO_STRIPED,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Like {@link #POOLED_LO_STRIPED}, except that the next chunk is obtained by a background
+	 * thread before the current one is exhausted.
+	 *
+	 * @since 7.0
+	 */
+	POOLED_LO_PREFETCH;
 
 	@Override
 	public String getExternalName() {
@@ -59,6 +75,10 @@ public String getExternalName() {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_LO_STRIPED:
+				return "pooled-lo-striped";
+			case POOLED_LO_PREFETCH:
+				return "pooled-lo-prefetch";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -78,6 +98,10 @@ public Class<? extends Optimizer> getOptimizerClass() {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_LO_STRIPED:
+				return PooledLoStripedOptimizer.class;
+			case POOLED_LO_PREFETCH:
+				return PooledLoPrefetchOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -92,6 +116,8 @@ public boolean isPooled() {
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_LO_STRIPED:
+			case POOLED_LO_PREFETCH:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
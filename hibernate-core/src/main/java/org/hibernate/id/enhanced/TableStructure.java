@@ -9,9 +9,11 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.LockOptions;
+import org.hibernate.SessionEventListener;
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.model.relational.InitCommand;
@@ -69,7 +71,8 @@ public class TableStructure implements DatabaseStructure {
 	private String updateQuery;
 
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	// also incremented by the background threads of PooledLoStripedOptimizer
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 
 	public TableStructure(
@@ -132,7 +135,7 @@ public int getIncrementSize() {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override @Deprecated
@@ -167,58 +170,13 @@ public IntegralDataTypeHolder getNextValue() {
 						new AbstractReturningWork<>() {
 							@Override
 							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-								final IntegralDataTypeHolder value = makeValue();
-								int rows;
-								do {
-									try ( PreparedStatement selectStatement = prepareStatement(
-											connection,
-											selectQuery,
-											statementLogger,
-											statsCollector,
-											session
-									) ) {
-										final ResultSet selectRS = executeQuery(
-												selectStatement,
-												statsCollector,
-												selectQuery,
-												session
-										);
-										if ( !selectRS.next() ) {
-											final String err = "could not read a hi value - you need to populate the table: " + physicalTableName;
-											LOG.error( err );
-											throw new IdentifierGenerationException( err );
-										}
-										value.initialize( selectRS, 1 );
-										selectRS.close();
-									}
-									catch (SQLException sqle) {
-										LOG.error( "could not read a hi value", sqle );
-										throw sqle;
-									}
-
-
-									try ( PreparedStatement updatePS = prepareStatement(
-											connection,
-											updateQuery,
-											statementLogger,
-											statsCollector,
-											session
-									) ) {
-										final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
-										final IntegralDataTypeHolder updateValue = value.copy().add( increment );
-										updateValue.bind( updatePS, 1 );
-										value.bind( updatePS, 2 );
-										rows = executeUpdate( updatePS, statsCollector, updateQuery, session );
-									}
-									catch (SQLException e) {
-										LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
-										throw e;
-									}
-								} while ( rows == 0 );
-
-								accessCounter++;
-
-								return value;
+								return TableStructure.this.getNextValue(
+										connection,
+										statementLogger,
+										statsCollector,
+										session.getEventMonitor(),
+										session.getFactory().getStatistics()
+								);
 							}
 						},
 						true
@@ -229,19 +187,98 @@ public IntegralDataTypeHolder execute(Connection connection) throws SQLException
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback getIsolatedCallback() {
+				final EventMonitor eventMonitor = session.getEventMonitor();
+				return new IsolatedAccessCallback( session ) {
+					@Override
+					IntegralDataTypeHolder getNextValue(Connection connection) throws SQLException {
+						// no session, and so no session events
+						return TableStructure.this.getNextValue(
+								connection,
+								statementLogger,
+								new SessionEventListener() {},
+								eventMonitor,
+								getSessionFactory().getStatistics()
+						);
+					}
+				};
+			}
 		};
 	}
 
+	private IntegralDataTypeHolder getNextValue(
+			Connection connection,
+			SqlStatementLogger statementLogger,
+			SessionEventListener statsCollector,
+			EventMonitor eventMonitor,
+			StatisticsImplementor stats) throws SQLException {
+		final IntegralDataTypeHolder value = makeValue();
+		int rows;
+		do {
+			try ( PreparedStatement selectStatement = prepareStatement(
+					connection,
+					selectQuery,
+					statementLogger,
+					statsCollector,
+					eventMonitor,
+					stats
+			) ) {
+				final ResultSet selectRS = executeQuery(
+						selectStatement,
+						statsCollector,
+						selectQuery,
+						eventMonitor
+				);
+				if ( !selectRS.next() ) {
+					final String err = "could not read a hi value - you need to populate the table: " + physicalTableName;
+					LOG.error( err );
+					throw new IdentifierGenerationException( err );
+				}
+				value.initialize( selectRS, 1 );
+				selectRS.close();
+			}
+			catch (SQLException sqle) {
+				LOG.error( "could not read a hi value", sqle );
+				throw sqle;
+			}
+
+
+			try ( PreparedStatement updatePS = prepareStatement(
+					connection,
+					updateQuery,
+					statementLogger,
+					statsCollector,
+					eventMonitor,
+					stats
+			) ) {
+				final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
+				final IntegralDataTypeHolder updateValue = value.copy().add( increment );
+				updateValue.bind( updatePS, 1 );
+				value.bind( updatePS, 2 );
+				rows = executeUpdate( updatePS, statsCollector, updateQuery, eventMonitor );
+			}
+			catch (SQLException e) {
+				LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
+				throw e;
+			}
+		} while ( rows == 0 );
+
+		accessCounter.incrementAndGet();
+
+		return value;
+	}
+
 	private PreparedStatement prepareStatement(
 			Connection connection,
 			String sql,
 			SqlStatementLogger logger,
-			SessionEventListenerManager statsCollector,
-			SharedSessionContractImplementor session) throws SQLException {
+			SessionEventListener statsCollector,
+			EventMonitor eventMonitor,
+			StatisticsImplementor stats) throws SQLException {
 		logger.logStatement( sql, FormatStyle.BASIC.getFormatter() );
-		final EventMonitor eventMonitor = session.getEventMonitor();
 		final DiagnosticEvent creationEvent = eventMonitor.beginJdbcPreparedStatementCreationEvent();
-		final StatisticsImplementor stats = session.getFactory().getStatistics();
 		try {
 			statsCollector.jdbcPrepareStatementStart();
 			if ( stats != null && stats.isStatisticsEnabled() ) {
@@ -260,10 +297,9 @@ private PreparedStatement prepareStatement(
 
 	private int executeUpdate(
 			PreparedStatement ps,
-			SessionEventListenerManager statsCollector,
+			SessionEventListener statsCollector,
 			String sql,
-			SharedSessionContractImplementor session) throws SQLException {
-		final EventMonitor eventMonitor = session.getEventMonitor();
+			EventMonitor eventMonitor) throws SQLException {
 		final DiagnosticEvent executionEvent = eventMonitor.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			statsCollector.jdbcExecuteStatementStart();
@@ -278,10 +314,9 @@ private int executeUpdate(
 
 	private ResultSet executeQuery(
 			PreparedStatement ps,
-			SessionEventListenerManager statsCollector,
+			SessionEventListener statsCollector,
 			String sql,
-			SharedSessionContractImplementor session) throws SQLException {
-		final EventMonitor eventMonitor = session.getEventMonitor();
+			EventMonitor eventMonitor) throws SQLException {
 		final DiagnosticEvent executionEvent = eventMonitor.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			statsCollector.jdbcExecuteStatementStart();
@@ -94,10 +94,17 @@ public final void close() {
 			jdbcValues.finishUp( persistenceContext );
 			getPersistenceContext().getJdbcCoordinator().afterStatementExecution();
 			closed = true;
+			afterClose();
 		}
 		// noop if already closed
 	}
 
+	/**
+	 * Called once the results are closed, after the JDBC resources were released.
+	 */
+	protected void afterClose() {
+	}
+
 	@Override
 	public boolean isClosed() {
 		return closed;
@@ -48,6 +48,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.transaction.internal.TransactionImpl;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.internal.RootGraphImpl;
@@ -75,10 +76,12 @@
 import org.hibernate.query.criteria.CriteriaDefinition;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaInsert;
+import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
@@ -110,6 +113,7 @@
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.format.FormatMapper;
 import org.hibernate.type.spi.TypeConfiguration;
 
@@ -849,7 +853,33 @@ private <R> SelectionQuery<R> createSelectionQuery(String hql, Class<R> resultTy
 	}
 
 	protected <R> HqlInterpretation<R> interpretHql(String hql, Class<R> resultType) {
-		return getFactory().getQueryEngine().interpretHql( hql, resultType );
+		final QueryEngine queryEngine = getFactory().getQueryEngine();
+		final EventMonitor eventMonitor = getEventMonitor();
+		final DiagnosticEvent queryInterpretationEvent = eventMonitor.beginQueryInterpretationEvent();
+		if ( queryInterpretationEvent == null ) {
+			return queryEngine.interpretHql( hql, resultType );
+		}
+		else {
+			// the translator is only called when the interpretation is not in the query plan cache
+			final HqlTranslator translator = queryEngine.getHqlTranslator();
+			final boolean[] translated = new boolean[1];
+			try {
+				return queryEngine.getInterpretationCache().resolveHqlInterpretation(
+						hql,
+						resultType,
+						new HqlTranslator() {
+							@Override
+							public <X> SqmStatement<X> translate(String queryString, Class<X> expectedResultType) {
+								translated[0] = true;
+								return translator.translate( queryString, expectedResultType );
+							}
+						}
+				);
+			}
+			finally {
+				eventMonitor.completeQueryInterpretationEvent( queryInterpretationEvent, hql, !translated[0], this );
+			}
+		}
 	}
 
 	protected static void checkSelectionQuery(String hql, HqlInterpretation<?> hqlInterpretation) {
@@ -1421,6 +1451,11 @@ public Integer getJdbcBatchSize() {
 		return jdbcBatchSize;
 	}
 
+	@Override
+	public WrapperOptions getJdbcValueBindingOptions() {
+		return this;
+	}
+
 	@Override
 	public void setJdbcBatchSize(Integer jdbcBatchSize) {
 		this.jdbcBatchSize = jdbcBatchSize;
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.LoadContexts;
+import org.hibernate.sql.results.spi.RowReader;
+
+/**
+ * A forward-only ScrollableResults implementation which evicts the entities
+ * loaded by a row from the persistence context once it moves to the next row,
+ * or once it is closed.
+ * <p>
+ * Only the entities loaded by the row, and their collections, are detached.
+ * Unlike {@link org.hibernate.Session#evict}, the eviction does not cascade,
+ * since entities reached by cascading might have been managed before the
+ * query was executed.  Proxies created for lazy associations of the row, as
+ * well as their entries in the {@linkplain org.hibernate.engine.spi.BatchFetchQueue
+ * batch fetch queue}, are not evicted, since they might be shared with other
+ * entities of the persistence context.
+ *
+ * @see org.hibernate.sql.results.spi.StreamingResultsConsumer
+ *
+ * @since 7.0
+ */
+public class EvictingScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
+	private R currentRow;
+	private final List<Object> currentRowEntities = new ArrayList<>();
+
+	public EvictingScrollableResultsImpl(
+			JdbcValues jdbcValues,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			SharedSessionContractImplementor persistenceContext) {
+		super(
+				jdbcValues,
+				processingOptions,
+				jdbcValuesSourceProcessingState,
+				rowProcessingState,
+				rowReader,
+				persistenceContext
+		);
+	}
+
+	@Override
+	protected R getCurrentRow() {
+		return currentRow;
+	}
+
+	@Override
+	public boolean next() {
+		evictCurrentRowEntities();
+		final boolean result = getRowProcessingState().next();
+		prepareCurrentRow( result );
+		return result;
+	}
+
+	@Override
+	protected void afterClose() {
+		// the results might be closed before the last row was read past
+		evictCurrentRowEntities();
+		currentRow = null;
+	}
+
+	@Override
+	public boolean previous() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean scroll(int i) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean position(int position) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean first() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean last() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void afterLast() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void beforeFirst() {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean isFirst() {
+		return getRowProcessingState().isFirst();
+	}
+
+	@Override
+	public boolean isLast() {
+		return getRowProcessingState().isLast();
+	}
+
+	@Override
+	public int getRowNumber() {
+		return getRowProcessingState().getPosition();
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		throw forwardOnly();
+	}
+
+	private static UnsupportedOperationException forwardOnly() {
+		return new UnsupportedOperationException( "Results evicted from the persistence context may only be read forward" );
+	}
+
+	private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
+		if ( underlyingScrollSuccessful ) {
+			final PersistenceContext persistenceContext = getPersistenceContext().getPersistenceContext();
+			final LoadContexts loadContexts = persistenceContext.getLoadContexts();
+			loadContexts.register( getJdbcValuesSourceProcessingState() );
+			persistenceContext.beforeLoad();
+			try {
+				try {
+					currentRow = getRowReader().readRow( getRowProcessingState() );
+					getRowProcessingState().finishRowProcessing( true );
+					collectCurrentRowEntities();
+					getJdbcValuesSourceProcessingState().finishUp( false );
+				}
+				finally {
+					persistenceContext.afterLoad();
+				}
+				persistenceContext.initializeNonLazyCollections();
+			}
+			finally {
+				loadContexts.deregister( getJdbcValuesSourceProcessingState() );
+			}
+			afterScrollOperation();
+		}
+		else {
+			currentRow = null;
+		}
+	}
+
+	private void collectCurrentRowEntities() {
+		// entities which were already managed before the row was read are
+		// not loading, and so are left alone
+		final List<EntityHolder> loadingEntityHolders =
+				getJdbcValuesSourceProcessingState().getLoadingEntityHolders();
+		if ( loadingEntityHolders != null ) {
+			for ( EntityHolder holder : loadingEntityHolders ) {
+				final Object entity = holder.getEntity();
+				if ( entity != null ) {
+					currentRowEntities.add( entity );
+				}
+			}
+		}
+	}
+
+	private void evictCurrentRowEntities() {
+		if ( !currentRowEntities.isEmpty() ) {
+			final EventSource session = getPersistenceContext().asEventSource();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( Object entity : currentRowEntities ) {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				// never discard a pending removal
+				if ( entry != null && entry.getStatus() != Status.DELETED ) {
+					detach( entity, entry, session );
+				}
+			}
+			currentRowEntities.clear();
+		}
+	}
+
+	/**
+	 * Detach the given entity just like {@link org.hibernate.event.spi.EvictEventListener}
+	 * would, but without cascading to its associations.
+	 */
+	private static void detach(Object entity, EntityEntry entry, EventSource session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityPersister persister = entry.getPersister();
+		if ( persister.hasNaturalIdentifier() ) {
+			persistenceContext.getNaturalIdResolutions()
+					.handleEviction( entry.getId(), entity, persister );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( session, entity ).process( entity, persister );
+		}
+		persistenceContext.removeEntityHolder( entry.getEntityKey() );
+		persistenceContext.removeEntry( entity );
+	}
+}
@@ -54,6 +54,7 @@
 import org.hibernate.context.spi.CurrentSessionContext;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.EntityInsertDependencies;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
@@ -134,12 +135,15 @@
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static org.hibernate.cfg.AvailableSettings.CURRENT_SESSION_CONTEXT_CLASS;
+import static org.hibernate.cfg.PersistenceSettings.SESSION_FACTORY_LAZY_PERSISTER_INITIALIZATION;
+import static org.hibernate.cfg.PersistenceSettings.SESSION_FACTORY_PERSISTER_WARMUP;
 import static org.hibernate.internal.FetchProfileHelper.addFetchProfiles;
 import static org.hibernate.internal.SessionFactorySettings.deprecationCheck;
 import static org.hibernate.internal.SessionFactorySettings.determineJndiName;
 import static org.hibernate.internal.SessionFactorySettings.getSessionFactoryName;
 import static org.hibernate.internal.SessionFactorySettings.getSettings;
 import static org.hibernate.internal.SessionFactorySettings.maskOutSensitiveInformation;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.jpa.HibernateHints.HINT_TENANT_ID;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 import static org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_STATEMENT;
@@ -197,6 +201,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient JavaType<Object> tenantIdentifierJavaType;
 
 	private final transient EventListenerGroups eventListenerGroups;
+	private final transient EntityInsertDependencies entityInsertDependencies;
 
 	private final transient WrapperOptions wrapperOptions;
 	private final transient SessionBuilderImpl defaultSessionOpenOptions;
@@ -309,6 +314,8 @@ public SessionFactoryImpl(
 			// completely built, since we need to use the persisters
 			addFetchProfiles( bootMetamodel, runtimeMetamodelsImpl, fetchProfiles );
 
+			entityInsertDependencies = new EntityInsertDependencies( mappingMetamodelImpl );
+
 			defaultSessionOpenOptions = createDefaultSessionOpenOptionsIfPossible();
 			temporarySessionOpenOptions = defaultSessionOpenOptions == null ? null : buildTemporarySessionOpenOptions();
 			defaultStatelessOptions = defaultSessionOpenOptions == null ? null : withStatelessOptions();
@@ -342,6 +349,11 @@ public SessionFactoryImpl(
 			typeConfiguration.scope( this );
 
 			observer.sessionFactoryCreated( this );
+
+			if ( getBoolean( SESSION_FACTORY_LAZY_PERSISTER_INITIALIZATION, settings )
+					&& getBoolean( SESSION_FACTORY_PERSISTER_WARMUP, settings ) ) {
+				mappingMetamodelImpl.warmUpPersisters();
+			}
 		}
 		catch ( Exception e ) {
 			disintegrate( e, integratorObserver );
@@ -953,6 +965,11 @@ public StatisticsImplementor getStatistics() {
 		return statistics;
 	}
 
+	@Override
+	public EntityInsertDependencies getEntityInsertDependencies() {
+		return entityInsertDependencies;
+	}
+
 	public FilterDefinition getFilterDefinition(String filterName) {
 		final FilterDefinition filterDefinition = filters.get( filterName );
 		if ( filterDefinition == null ) {
@@ -4,31 +4,26 @@
  */
 package org.hibernate.internal;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 
 /**
+ * Observers may be added while the {@code SessionFactory} is in use, from any thread.
+ *
  * @author Steve Ebersole
  */
 public class SessionFactoryObserverChain implements SessionFactoryObserver {
-	private List<SessionFactoryObserver> observers;
+	private final List<SessionFactoryObserver> observers = new CopyOnWriteArrayList<>();
 
 	public void addObserver(SessionFactoryObserver observer) {
-		if ( observers == null ) {
-			observers = new ArrayList<>();
-		}
 		observers.add( observer );
 	}
 
 	@Override
 	public void sessionFactoryCreated(SessionFactory factory) {
-		if ( observers == null ) {
-			return;
-		}
-
 		for ( SessionFactoryObserver observer : observers ) {
 			observer.sessionFactoryCreated( factory );
 		}
@@ -36,27 +31,19 @@ public void sessionFactoryCreated(SessionFactory factory) {
 
 	@Override
 	public void sessionFactoryClosing(SessionFactory factory) {
-		if ( observers == null ) {
-			return;
-		}
-
 		//notify in reverse order of create notification
-		int size = observers.size();
-		for (int index = size - 1 ; index >= 0 ; index--) {
-			observers.get( index ).sessionFactoryClosing( factory );
+		final SessionFactoryObserver[] snapshot = observers.toArray( new SessionFactoryObserver[0] );
+		for ( int index = snapshot.length - 1; index >= 0; index-- ) {
+			snapshot[index].sessionFactoryClosing( factory );
 		}
 	}
 
 	@Override
 	public void sessionFactoryClosed(SessionFactory factory) {
-		if ( observers == null ) {
-			return;
-		}
-
 		//notify in reverse order of create notification
-		int size = observers.size();
-		for (int index = size - 1 ; index >= 0 ; index--) {
-			observers.get( index ).sessionFactoryClosed( factory );
+		final SessionFactoryObserver[] snapshot = observers.toArray( new SessionFactoryObserver[0] );
+		for ( int index = snapshot.length - 1; index >= 0; index-- ) {
+			snapshot[index].sessionFactoryClosed( factory );
 		}
 	}
 }
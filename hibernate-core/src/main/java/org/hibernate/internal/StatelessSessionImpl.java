@@ -83,6 +83,8 @@
 import jakarta.persistence.EntityGraph;
 import jakarta.transaction.SystemException;
 
+import static org.hibernate.engine.internal.EntityInsertOrdering.groupByEntityType;
+import static org.hibernate.engine.internal.EntityInsertOrdering.orderByEntityType;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.Versioning.incrementVersion;
@@ -158,7 +160,11 @@ public void insertMultiple(List<?> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
 		try {
-			for ( Object entity : entities ) {
+			// with insert ordering, each entity type is written in a single batch
+			final List<?> orderedEntities = getSessionFactoryOptions().isOrderInsertsEnabled()
+					? orderByEntityType( entities, entity -> getEntityPersister( null, entity ) )
+					: entities;
+			for ( Object entity : orderedEntities ) {
 				insert( null, entity );
 			}
 		}
@@ -366,7 +372,10 @@ public void updateMultiple(List<?> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
 		try {
-			for ( Object entity : entities ) {
+			final List<?> orderedEntities = getSessionFactoryOptions().isOrderUpdatesEnabled()
+					? groupByEntityType( entities, entity -> getEntityPersister( null, entity ) )
+					: entities;
+			for ( Object entity : orderedEntities ) {
 				update( null, entity );
 			}
 		}
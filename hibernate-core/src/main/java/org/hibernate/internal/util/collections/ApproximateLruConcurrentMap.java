@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded {@link ConcurrentMap} with approximate LRU eviction, whose reads never
+ * acquire a lock.
+ * <p>
+ * Unlike {@link BoundedConcurrentHashMap}, which updates its LIRS structures under the
+ * segment lock on every hit, a hit here only records the current <em>epoch</em> in the
+ * entry, and only when it differs from the recorded one. The epoch is advanced by each
+ * insertion, so a frequently read entry is written to at most once per insertion into
+ * the map, and the hot path of a read is a plain {@link ConcurrentHashMap} lookup.
+ * <p>
+ * When an insertion makes the map exceed its maximum size, the inserting thread evicts
+ * the entries with the oldest epochs, bringing the map back to 90% of its maximum size.
+ * Rather than sorting the whole map, the epoch below which entries are evicted is
+ * estimated from a sample of the entries, so that an eviction pass is linear in the
+ * size of the map, and amortized over the insertions between two passes. The pass is
+ * guarded by a {@link ReentrantLock#tryLock() try-lock}, so that other inserting
+ * threads never wait for it.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class ApproximateLruConcurrentMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+	// the number of entries whose epochs are sampled to estimate the eviction threshold
+	private static final int SAMPLE_SIZE = 64;
+
+	private static final class Node<V> {
+		private final V value;
+		// racy by design: only used as an approximation of recency
+		private long lastAccess;
+
+		private Node(V value, long lastAccess) {
+			this.value = value;
+			this.lastAccess = lastAccess;
+		}
+	}
+
+	private final ConcurrentHashMap<K, Node<V>> map;
+	private final int maxSize;
+	private final int evictionTarget;
+	private final @Nullable BiConsumer<K, V> evictionListener;
+
+	private final AtomicLong epoch = new AtomicLong();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private @Nullable Set<Entry<K, V>> entrySet;
+
+	public ApproximateLruConcurrentMap(int maxSize) {
+		this( maxSize, null );
+	}
+
+	/**
+	 * @param maxSize the maximum number of entries
+	 * @param evictionListener notified of each evicted entry, by the evicting thread
+	 */
+	public ApproximateLruConcurrentMap(int maxSize, @Nullable BiConsumer<K, V> evictionListener) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive: " + maxSize );
+		}
+		this.map = new ConcurrentHashMap<>( Math.min( maxSize, 1024 ) );
+		this.maxSize = maxSize;
+		this.evictionTarget = Math.max( 1, maxSize - maxSize / 10 );
+		this.evictionListener = evictionListener;
+	}
+
+	private Node<V> newNode(V value) {
+		return new Node<>( Objects.requireNonNull( value ), epoch.incrementAndGet() );
+	}
+
+	private V touch(Node<V> node) {
+		final long current = epoch.get();
+		if ( node.lastAccess != current ) {
+			node.lastAccess = current;
+		}
+		return node.value;
+	}
+
+	private void afterInsert() {
+		if ( map.size() > maxSize && evictionLock.tryLock() ) {
+			try {
+				evict();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void evict() {
+		final int excess = map.size() - evictionTarget;
+		if ( excess > 0 ) {
+			final long threshold = evictionThreshold( excess );
+			int evicted = 0;
+			for ( Map.Entry<K, Node<V>> entry : map.entrySet() ) {
+				if ( evicted == excess ) {
+					break;
+				}
+				final Node<V> node = entry.getValue();
+				if ( node.lastAccess <= threshold && map.remove( entry.getKey(), node ) ) {
+					evicted++;
+					if ( evictionListener != null ) {
+						evictionListener.accept( entry.getKey(), node.value );
+					}
+				}
+			}
+			// if the estimate was too low, the next insertion evicts again
+		}
+	}
+
+	/**
+	 * Estimates, from the epochs of evenly spread entries, the epoch at or below
+	 * which the given number of entries were last accessed.
+	 */
+	private long evictionThreshold(int excess) {
+		final int size = map.size();
+		final int stride = Math.max( 1, size / SAMPLE_SIZE );
+		final long[] sample = new long[SAMPLE_SIZE];
+		int count = 0;
+		int position = 0;
+		for ( Node<V> node : map.values() ) {
+			if ( position++ % stride == 0 ) {
+				sample[count++] = node.lastAccess;
+				if ( count == SAMPLE_SIZE ) {
+					break;
+				}
+			}
+		}
+		if ( count == 0 ) {
+			return Long.MAX_VALUE;
+		}
+		Arrays.sort( sample, 0, count );
+		final long rank = ( (long) excess * count + size - 1 ) / size;
+		return sample[(int) Math.min( count, Math.max( 1, rank ) ) - 1];
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		final Node<V> node = map.get( key );
+		return node == null ? null : touch( node );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return map.containsKey( key );
+	}
+
+	@Override
+	public int size() {
+		return map.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return map.isEmpty();
+	}
+
+	@Override
+	public @Nullable V put(K key, V value) {
+		final Node<V> previous = map.put( key, newNode( value ) );
+		if ( previous == null ) {
+			afterInsert();
+			return null;
+		}
+		else {
+			return previous.value;
+		}
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(K key, V value) {
+		final Node<V> existing = map.putIfAbsent( key, newNode( value ) );
+		if ( existing == null ) {
+			afterInsert();
+			return null;
+		}
+		else {
+			return touch( existing );
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<V> existing = map.get( key );
+		if ( existing != null ) {
+			return touch( existing );
+		}
+		final Object[] created = new Object[1];
+		final Node<V> node = map.computeIfAbsent( key, k -> {
+			final V value = mappingFunction.apply( k );
+			if ( value == null ) {
+				return null;
+			}
+			final Node<V> newNode = newNode( value );
+			created[0] = newNode;
+			return newNode;
+		} );
+		if ( node == null ) {
+			return null;
+		}
+		else if ( node == created[0] ) {
+			afterInsert();
+			return node.value;
+		}
+		else {
+			return touch( node );
+		}
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		final Node<V> removed = map.remove( key );
+		return removed == null ? null : removed.value;
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		final Node<V> node = map.get( key );
+		return node != null && Objects.equals( node.value, value ) && map.remove( key, node );
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		final Node<V> node = map.get( key );
+		return node != null && Objects.equals( node.value, oldValue ) && map.replace( key, node, newNode( newValue ) );
+	}
+
+	@Override
+	public @Nullable V replace(K key, V value) {
+		final Node<V> previous = map.replace( key, newNode( value ) );
+		return previous == null ? null : previous.value;
+	}
+
+	@Override
+	public void clear() {
+		map.clear();
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<K, V>> iterator() {
+					final Iterator<Entry<K, Node<V>>> iterator = map.entrySet().iterator();
+					return new Iterator<>() {
+						@Override
+						public boolean hasNext() {
+							return iterator.hasNext();
+						}
+
+						@Override
+						public Entry<K, V> next() {
+							final Entry<K, Node<V>> next = iterator.next();
+							return new SimpleImmutableEntry<>( next.getKey(), next.getValue().value );
+						}
+
+						@Override
+						public void remove() {
+							iterator.remove();
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return map.size();
+				}
+
+				@Override
+				public void clear() {
+					map.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+}
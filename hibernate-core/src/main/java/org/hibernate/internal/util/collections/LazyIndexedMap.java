@@ -5,6 +5,8 @@
 package org.hibernate.internal.util.collections;
 
 import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 /**
@@ -33,6 +35,8 @@
 
 	private volatile Object[] values;
 	private static final Object NOT_INITIALIZED = new Object();
+	//A lock rather than the monitor, as the valueGenerator might block and pin a virtual thread:
+	private final Lock lock = new ReentrantLock();
 
 	protected LazyIndexedMap(final int size) {
 		final Object[] vs = new Object[size];
@@ -62,21 +66,27 @@ protected <K1 extends K> V computeIfAbsent(final int index, final K1 originalKey
 		}
 	}
 
-	private synchronized <K1 extends K> V lockedComputeIfAbsent(final int index, final K1 originalKey, final Function<K1,V> valueGenerator) {
-		//Get a fresh copy from the volatile read, while holding the global pessimistic lock in this:
-		final Object[] values = this.values;
-		final Object value = values[index];
-		//Check again
-		if ( value != NOT_INITIALIZED ) {
-			return (V) value;
+	private <K1 extends K> V lockedComputeIfAbsent(final int index, final K1 originalKey, final Function<K1,V> valueGenerator) {
+		lock.lock();
+		try {
+			//Get a fresh copy from the volatile read, while holding the global pessimistic lock:
+			final Object[] values = this.values;
+			final Object value = values[index];
+			//Check again
+			if ( value != NOT_INITIALIZED ) {
+				return (V) value;
+			}
+			else {
+				//Actually need to generate the value
+				final V generated = valueGenerator.apply( originalKey );
+				values[index] = generated;
+				//re-write on the volatile reference to publish any changes to the array
+				this.values = values;
+				return generated;
+			}
 		}
-		else {
-			//Actually need to generate the value
-			final V generated = valueGenerator.apply( originalKey );
-			values[index] = generated;
-			//re-write on the volatile reference to publish any changes to the array
-			this.values = values;
-			return generated;
+		finally {
+			lock.unlock();
 		}
 	}
 }
@@ -0,0 +1,466 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link Map} implementation based on open addressing with linear probing.
+ * <p>
+ * Keys and values are stored next to each other in a single array, and the hash
+ * of each key is cached in a parallel {@code int[]}, so that no node object is
+ * allocated per entry, and lookups mostly touch contiguous memory.  This makes it
+ * well suited for the large, short-lived maps keyed by
+ * {@link org.hibernate.engine.spi.EntityKey} and
+ * {@link org.hibernate.engine.spi.CollectionKey} held by the persistence context.
+ * <p>
+ * Removed entries leave a tombstone behind, which is reclaimed by a later insertion
+ * or on the next rehash, so that removal through an iterator never relocates other
+ * entries.  Null keys are not supported, null values are.
+ * <p>
+ * Like {@link java.util.HashMap}, this class is not thread-safe and its iterators
+ * are fail-fast.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class OpenAddressingMap<K, V> extends AbstractMap<K, V> {
+	private static final Object TOMBSTONE = new Object();
+
+	private static final int MINIMUM_CAPACITY = 4;
+	private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+	// keys at even positions, the associated values right after them
+	private Object[] table;
+	private int[] hashes;
+	private int shift;
+	private int threshold;
+
+	private int size;
+	private int tombstones;
+	private int modCount;
+
+	private @Nullable Set<K> keySet;
+	private @Nullable Collection<V> values;
+	private @Nullable Set<Entry<K, V>> entrySet;
+
+	public OpenAddressingMap() {
+		this( 8 );
+	}
+
+	/**
+	 * @param expectedSize the number of entries the map should be able to hold without rehashing
+	 */
+	public OpenAddressingMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the table at most two thirds full
+		final long minimum = Math.max( MINIMUM_CAPACITY, expectedSize + ( expectedSize >> 1 ) + 1L );
+		return minimum >= MAXIMUM_CAPACITY
+				? MAXIMUM_CAPACITY
+				: Integer.highestOneBit( (int) minimum - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		table = new Object[capacity << 1];
+		hashes = new int[capacity];
+		shift = Integer.numberOfLeadingZeros( capacity ) + 1;
+		threshold = capacity == MAXIMUM_CAPACITY ? capacity - 1 : capacity / 3 * 2;
+	}
+
+	/**
+	 * Fibonacci hashing, which spreads the sequential hashes of numeric identifiers
+	 * evenly over the table.
+	 */
+	private int slot(int hash) {
+		return ( hash * 0x9E3779B9 ) >>> shift;
+	}
+
+	private int indexOf(@Nullable Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final Object[] table = this.table;
+		final int[] hashes = this.hashes;
+		final int mask = hashes.length - 1;
+		final int hash = key.hashCode();
+		int index = slot( hash );
+		Object candidate;
+		while ( ( candidate = table[index << 1] ) != null ) {
+			if ( candidate != TOMBSTONE && hashes[index] == hash && ( candidate == key || key.equals( candidate ) ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(@Nullable Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(@Nullable Object value) {
+		final Object[] table = this.table;
+		for ( int i = 0; i < table.length; i += 2 ) {
+			final Object key = table[i];
+			if ( key != null && key != TOMBSTONE && Objects.equals( value, table[i + 1] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public @Nullable V get(@Nullable Object key) {
+		final int index = indexOf( key );
+		//noinspection unchecked
+		return index < 0 ? null : (V) table[( index << 1 ) + 1];
+	}
+
+	@Override
+	public @Nullable V put(K key, V value) {
+		if ( key == null ) {
+			throw new NullPointerException( "This map does not support null keys" );
+		}
+		final Object[] table = this.table;
+		final int[] hashes = this.hashes;
+		final int mask = hashes.length - 1;
+		final int hash = key.hashCode();
+		int index = slot( hash );
+		int firstTombstone = -1;
+		Object candidate;
+		while ( ( candidate = table[index << 1] ) != null ) {
+			if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = index;
+				}
+			}
+			else if ( hashes[index] == hash && ( candidate == key || key.equals( candidate ) ) ) {
+				final int valueIndex = ( index << 1 ) + 1;
+				//noinspection unchecked
+				final V previous = (V) table[valueIndex];
+				table[valueIndex] = value;
+				return previous;
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		modCount++;
+		size++;
+		if ( firstTombstone >= 0 ) {
+			tombstones--;
+			index = firstTombstone;
+		}
+		table[index << 1] = key;
+		table[( index << 1 ) + 1] = value;
+		hashes[index] = hash;
+		if ( firstTombstone < 0 && size + tombstones > threshold ) {
+			rehash();
+		}
+		return null;
+	}
+
+	@Override
+	public @Nullable V remove(@Nullable Object key) {
+		final int index = indexOf( key );
+		return index < 0 ? null : removeAt( index );
+	}
+
+	private V removeAt(int index) {
+		final Object[] table = this.table;
+		final int mask = hashes.length - 1;
+		final int valueIndex = ( index << 1 ) + 1;
+		//noinspection unchecked
+		final V previous = (V) table[valueIndex];
+		table[valueIndex] = null;
+		modCount++;
+		size--;
+		if ( table[( ( index + 1 ) & mask ) << 1] == null ) {
+			// no probe sequence goes past this slot, so neither this slot
+			// nor the tombstones directly preceding it are needed anymore
+			table[index << 1] = null;
+			index = ( index - 1 ) & mask;
+			while ( table[index << 1] == TOMBSTONE ) {
+				table[index << 1] = null;
+				tombstones--;
+				index = ( index - 1 ) & mask;
+			}
+		}
+		else {
+			table[index << 1] = TOMBSTONE;
+			tombstones++;
+		}
+		return previous;
+	}
+
+	private void rehash() {
+		final Object[] oldTable = table;
+		final int[] oldHashes = hashes;
+		// only grow if needed, otherwise just get rid of the tombstones
+		allocate( Math.max( oldHashes.length, capacityFor( size ) ) );
+		tombstones = 0;
+
+		final Object[] table = this.table;
+		final int[] hashes = this.hashes;
+		final int mask = hashes.length - 1;
+		for ( int i = 0; i < oldHashes.length; i++ ) {
+			final Object key = oldTable[i << 1];
+			if ( key != null && key != TOMBSTONE ) {
+				final int hash = oldHashes[i];
+				int index = slot( hash );
+				while ( table[index << 1] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				table[index << 1] = key;
+				table[( index << 1 ) + 1] = oldTable[( i << 1 ) + 1];
+				hashes[index] = hash;
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 || tombstones > 0 ) {
+			modCount++;
+			Arrays.fill( table, null );
+			size = 0;
+			tombstones = 0;
+		}
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		final Object[] table = this.table;
+		for ( int i = 0; i < table.length; i += 2 ) {
+			final Object key = table[i];
+			if ( key != null && key != TOMBSTONE ) {
+				//noinspection unchecked
+				action.accept( (K) key, (V) table[i + 1] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new AbstractSet<>() {
+				@Override
+				public Iterator<K> iterator() {
+					return new TableIterator<>() {
+						@Override
+						K element(int index) {
+							//noinspection unchecked
+							return (K) table[index << 1];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsKey( o );
+				}
+
+				@Override
+				public boolean remove(Object o) {
+					final int index = indexOf( o );
+					if ( index < 0 ) {
+						return false;
+					}
+					removeAt( index );
+					return true;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( values == null ) {
+			values = new AbstractCollection<>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new TableIterator<>() {
+						@Override
+						V element(int index) {
+							//noinspection unchecked
+							return (V) table[( index << 1 ) + 1];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsValue( o );
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return values;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<K, V>> iterator() {
+					return new TableIterator<>() {
+						@Override
+						Entry<K, V> element(int index) {
+							//noinspection unchecked
+							return new TableEntry( (K) table[index << 1], (V) table[( index << 1 ) + 1] );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					if ( o instanceof Map.Entry<?, ?> entry ) {
+						final int index = indexOf( entry.getKey() );
+						return index >= 0 && Objects.equals( table[( index << 1 ) + 1], entry.getValue() );
+					}
+					return false;
+				}
+
+				@Override
+				public boolean remove(Object o) {
+					if ( contains( o ) ) {
+						removeAt( indexOf( ( (Map.Entry<?, ?>) o ).getKey() ) );
+						return true;
+					}
+					return false;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	private abstract class TableIterator<E> implements Iterator<E> {
+		private int next = -1;
+		private int last = -1;
+		private int expectedModCount = modCount;
+
+		TableIterator() {
+			advance();
+		}
+
+		abstract E element(int index);
+
+		private void advance() {
+			final Object[] table = OpenAddressingMap.this.table;
+			final int capacity = table.length >> 1;
+			do {
+				next++;
+			}
+			while ( next < capacity && ( table[next << 1] == null || table[next << 1] == TOMBSTONE ) );
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < ( table.length >> 1 );
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			last = next;
+			advance();
+			return element( last );
+		}
+
+		@Override
+		public void remove() {
+			if ( last < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			// removal never relocates other entries, so the iteration can just go on
+			removeAt( last );
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private final class TableEntry extends SimpleEntry<K, V> {
+		TableEntry(K key, V value) {
+			super( key, value );
+		}
+
+		@Override
+		public V setValue(V value) {
+			// replacing the value of an existing key is not a structural modification
+			OpenAddressingMap.this.put( getKey(), value );
+			return super.setValue( value );
+		}
+	}
+}
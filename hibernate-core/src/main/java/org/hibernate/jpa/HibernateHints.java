@@ -231,4 +231,23 @@ public interface HibernateHints {
 	 * @since 6.5
 	 */
 	String HINT_QUERY_DATABASE = "hibernate.query.database";
+
+	/**
+	 * Hint for specifying that entities loaded while reading the results
+	 * of a query forward only, as when the results are
+	 * {@linkplain org.hibernate.query.SelectionQuery#stream streamed},
+	 * should be evicted from the persistence context as soon as the results
+	 * move past the row which loaded them.
+	 * <p>
+	 * This keeps the size of the persistence context constant when reading
+	 * a very large number of rows. Entities obtained from a row must not be
+	 * expected to be managed after the next row has been read. Such queries
+	 * usually also specify a {@linkplain #HINT_FETCH_SIZE fetch size}, since
+	 * many JDBC drivers otherwise read the whole result set into memory, and
+	 * are usually {@linkplain #HINT_READ_ONLY read-only}.
+	 *
+	 * @see org.hibernate.query.spi.QueryOptions#isStreamedResultEvictionEnabled
+	 * @since 7.0
+	 */
+	String HINT_EVICT_STREAMED_RESULTS = "hibernate.query.stream.evict";
 }
@@ -21,6 +21,9 @@
 
 import java.lang.reflect.Array;
 
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.adaptiveBatchSize;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -35,6 +38,7 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 	private final SessionFactoryImplementor sessionFactory;
 
 	private final int keyJdbcCount;
+	private final boolean adaptive;
 
 	final CollectionLoaderSingleKey singleKeyLoader;
 
@@ -49,6 +53,7 @@ public AbstractCollectionBatchLoader(
 		this.keyJdbcCount = attributeMapping.getJdbcTypeCount();
 		this.sessionFactory = sessionFactory;
 		this.influencers = influencers;
+		this.adaptive = getBoolean( ADAPTIVE_BATCH_FETCH, sessionFactory.getProperties(), false );
 
 		singleKeyLoader = new CollectionLoaderSingleKey( getLoadable(), getInfluencers(), getSessionFactory() );
 	}
@@ -75,6 +80,28 @@ public int getKeyJdbcCount() {
 		return keyJdbcCount;
 	}
 
+	/**
+	 * Whether the number of keys to initialize is picked for each load.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 */
+	boolean isAdaptive() {
+		return adaptive;
+	}
+
+	/**
+	 * The maximum number of keys to initialize for a load from the given session.
+	 */
+	int getBatchSize(SharedSessionContractImplementor session) {
+		return adaptive
+				? adaptiveBatchSize(
+						domainBatchSize,
+						session.getPersistenceContextInternal().getBatchFetchQueue()
+								.getBatchLoadableCollectionCount( attributeMapping )
+				)
+				: domainBatchSize;
+	}
+
 	abstract void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContractImplementor session);
 
 	@Override
@@ -129,7 +156,7 @@ protected void finishInitializingKey(Object key, SharedSessionContractImplemento
 
 	@AllowReflection
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		final int length = getBatchSize( session );
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
 				length
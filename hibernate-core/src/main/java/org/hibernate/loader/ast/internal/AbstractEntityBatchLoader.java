@@ -7,12 +7,21 @@
 import org.hibernate.Hibernate;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.loader.internal.CacheLoadHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
 
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH;
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_COALESCING_WINDOW;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.adaptiveBatchSize;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
@@ -21,10 +30,56 @@
 		implements EntityBatchLoader<T> {
 
 	private final SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
+	private final EntityBatchLoadCoalescer coalescer;
+	private final boolean adaptive;
 
 	public AbstractEntityBatchLoader(EntityMappingType entityDescriptor, LoadQueryInfluencers loadQueryInfluencers) {
 		super( entityDescriptor, loadQueryInfluencers.getSessionFactory() );
 		this.singleIdLoader = new SingleIdEntityLoaderStandardImpl<>( entityDescriptor, loadQueryInfluencers );
+		final int coalescingWindow = getInt( BATCH_FETCH_COALESCING_WINDOW, sessionFactory.getProperties(), 0 );
+		this.coalescer = coalescingWindow > 0 && isCacheHandoverPossible( entityDescriptor.getEntityPersister() )
+				? new EntityBatchLoadCoalescer( coalescingWindow )
+				: null;
+		this.adaptive = getBoolean( ADAPTIVE_BATCH_FETCH, sessionFactory.getProperties(), false );
+	}
+
+	/**
+	 * Coalesced loads are delivered to the other sessions through the second-level cache,
+	 * which requires entries cached by one session to be immediately readable by the other
+	 * sessions.  This is not the case of read-write regions, whose entries are only readable
+	 * by transactions which started after they were cached.
+	 */
+	private static boolean isCacheHandoverPossible(EntityPersister persister) {
+		if ( persister.canReadFromCache() && persister.canWriteToCache() ) {
+			final AccessType accessType = persister.getCacheAccessStrategy().getAccessType();
+			return accessType == AccessType.READ_ONLY
+				|| accessType == AccessType.NONSTRICT_READ_WRITE;
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * Whether the number of ids to initialize is picked for each load.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 */
+	protected boolean isAdaptive() {
+		return adaptive;
+	}
+
+	/**
+	 * The maximum number of ids to initialize for a load from the given session.
+	 */
+	protected int getBatchSize(SharedSessionContractImplementor session) {
+		return adaptive
+				? adaptiveBatchSize(
+						getDomainBatchSize(),
+						session.getPersistenceContextInternal().getBatchFetchQueue()
+								.getBatchLoadableEntityKeyCount( getLoadable() )
+				)
+				: getDomainBatchSize();
 	}
 
 	protected abstract void initializeEntities(
@@ -92,10 +147,101 @@ private T load(
 			return singleIdLoader.load( id, entityInstance, lockOptions, readOnly, session );
 		}
 
+		final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
+		if ( isCoalescable( entityInstance, lockOptions, readOnly, session ) ) {
+			final EntityBatchLoadCoalescer.Batch batch = coalescer.join( ids, session.getTenantIdentifierValue() );
+			final boolean loaded = batch.isLeader()
+					? loadCoalescedBatch( batch, id, lockOptions, session )
+					: batch.awaitCompletion();
+			if ( loaded ) {
+				final Object entity = loadFromCoalescedBatch( id, entityKey, lockOptions, session );
+				if ( entity != null ) {
+					//noinspection unchecked
+					return (T) entity;
+				}
+			}
+			// otherwise the entity was not cached by the leader
+		}
+
 		initializeEntities( ids, id, entityInstance, lockOptions, readOnly, session );
 
-		final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
 		//noinspection unchecked
 		return (T) session.getPersistenceContext().getEntity( entityKey );
 	}
+
+	private boolean isCoalescable(
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		final LockMode lockMode = lockOptions.getLockMode();
+		return coalescer != null
+				&& entityInstance == null
+				// entities read from the second-level cache are not locked
+				&& ( lockMode == LockMode.NONE || lockMode == LockMode.READ )
+				&& readOnly == null
+				&& session.getCacheMode().isGetEnabled()
+				&& session.getCacheMode().isPutEnabled()
+				// the session would otherwise use its own loader
+				&& !getLoadable().isAffectedByInfluencers( session.getLoadQueryInfluencers(), true );
+	}
+
+	/**
+	 * Called by the leader: load the ids requested by all the sessions which joined
+	 * the batch into the second-level cache.  The entities are loaded by a stateless
+	 * session sharing the connection of the leader, so that none of them is added to
+	 * the persistence context of the leader, which, like the other sessions, obtains
+	 * the entities it requested from the second-level cache.
+	 *
+	 * @return whether the ids were loaded
+	 */
+	private boolean loadCoalescedBatch(
+			EntityBatchLoadCoalescer.Batch batch,
+			Object id,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		boolean loaded = false;
+		try {
+			final Object[] idsToInitialize = batch.close();
+			try ( StatelessSession statelessSession = session.getFactory().withStatelessOptions()
+					.connection( session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection() )
+					.tenantIdentifier( session.getTenantIdentifierValue() )
+					.openStatelessSession() ) {
+				statelessSession.setCacheMode( session.getCacheMode() );
+				initializeEntities(
+						idsToInitialize,
+						id,
+						null,
+						lockOptions,
+						null,
+						(SharedSessionContractImplementor) statelessSession
+				);
+			}
+			loaded = true;
+		}
+		finally {
+			batch.complete( loaded );
+		}
+		return loaded;
+	}
+
+	private Object loadFromCoalescedBatch(
+			Object id,
+			EntityKey entityKey,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.debugf( "Batch fetch of entity `%s#%s` coalesced with other sessions",
+					getLoadable().getEntityName(), id );
+		}
+		// the other ids of this session which were loaded are now
+		// cached, and so the batch-fetch queue will skip them
+		return CacheLoadHelper.loadFromSecondLevelCache(
+				session,
+				null,
+				lockOptions.getLockMode(),
+				getLoadable().getEntityPersister(),
+				entityKey
+		);
+	}
 }
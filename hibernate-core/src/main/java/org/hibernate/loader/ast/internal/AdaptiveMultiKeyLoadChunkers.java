@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import org.hibernate.dialect.Dialect;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.MAX_ADAPTIVE_BATCH_SIZE;
+
+/**
+ * The {@linkplain MultiKeyLoadChunker chunkers} of an IN-predicate batch loader in
+ * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive} mode.
+ * <p>
+ * The chunk sizes are the powers of two up to the largest size allowed by the dialect.
+ * The SQL for a chunk size is rendered the first time it is needed and then reused,
+ * so that the number of distinct statements stays small.
+ */
+class AdaptiveMultiKeyLoadChunkers<K> {
+	private final int maxChunkSize;
+	private final IntFunction<MultiKeyLoadChunker<K>> chunkerCreator;
+	// indexed by the base 2 logarithm of the chunk size
+	private final AtomicReferenceArray<MultiKeyLoadChunker<K>> chunkers;
+
+	/**
+	 * @param chunkerCreator Renders the SQL for the given chunk size
+	 */
+	AdaptiveMultiKeyLoadChunkers(
+			int keyColumnCount,
+			Dialect dialect,
+			IntFunction<MultiKeyLoadChunker<K>> chunkerCreator) {
+		final int largestChunkSize = dialect.getBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize( keyColumnCount, MAX_ADAPTIVE_BATCH_SIZE, false );
+		this.maxChunkSize = Integer.highestOneBit( Math.max( largestChunkSize, 1 ) );
+		this.chunkerCreator = chunkerCreator;
+		this.chunkers = new AtomicReferenceArray<>( Integer.numberOfTrailingZeros( maxChunkSize ) + 1 );
+	}
+
+	/**
+	 * The chunker with the smallest chunk size accommodating the given number of
+	 * keys, or with the largest chunk size if there is none.
+	 */
+	MultiKeyLoadChunker<K> chunkerFor(int keyCount) {
+		final int chunkSize = keyCount >= maxChunkSize
+				? maxChunkSize
+				: Integer.highestOneBit( Math.max( keyCount - 1, 1 ) ) << 1;
+		final int index = Integer.numberOfTrailingZeros( chunkSize );
+		final MultiKeyLoadChunker<K> chunker = chunkers.get( index );
+		if ( chunker != null ) {
+			return chunker;
+		}
+		else {
+			// concurrent loads might render the same SQL, which is harmless
+			final MultiKeyLoadChunker<K> newChunker = chunkerCreator.apply( chunkSize );
+			return chunkers.compareAndSet( index, null, newChunker ) ? newChunker : chunkers.get( index );
+		}
+	}
+}
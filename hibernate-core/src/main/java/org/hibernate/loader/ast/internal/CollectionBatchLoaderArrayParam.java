@@ -122,7 +122,7 @@ private PersistentCollection<?> loadEmbeddable(
 			);
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = getBatchSize( session );
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				jdbcParameter.getExpressionType()
 						.getSingleJdbcMapping()
@@ -217,7 +217,7 @@ Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImp
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
 		if( keyDescriptor.isEmbedded()){
 			assert keyDescriptor.getJdbcTypeCount() == 1;
-			final int length = getDomainBatchSize();
+			final int length = getBatchSize( session );
 			final Object[] keysToInitialize = (Object[]) Array.newInstance( keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(), length );
 			session.getPersistenceContextInternal().getBatchFetchQueue()
 					.collectBatchLoadableCollectionKeys(
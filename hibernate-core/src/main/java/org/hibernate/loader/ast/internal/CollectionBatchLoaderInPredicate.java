@@ -34,9 +34,8 @@
 		implements SqlArrayMultiKeyLoader {
 	private final int keyColumnCount;
 	private final int sqlBatchSize;
-	private final JdbcParametersList jdbcParameters;
-	private final SelectStatement sqlAst;
-	private final JdbcOperationQuerySelect jdbcSelect;
+	private final MultiKeyLoadChunker<Object> chunker;
+	private final AdaptiveMultiKeyLoadChunkers<Object> adaptiveChunkers;
 
 	public CollectionBatchLoaderInPredicate(
 			int domainBatchSize,
@@ -59,14 +58,28 @@ public CollectionBatchLoaderInPredicate(
 			);
 		}
 
+		chunker = createChunker( sqlBatchSize );
+		adaptiveChunkers = isAdaptive()
+				? new AdaptiveMultiKeyLoadChunkers<>(
+						keyColumnCount,
+						sessionFactory.getJdbcServices().getDialect(),
+						this::createChunker
+				)
+				: null;
+	}
+
+	private MultiKeyLoadChunker<Object> createChunker(int sqlBatchSize) {
+		final PluralAttributeMapping attributeMapping = getLoadable();
+		final SessionFactoryImplementor sessionFactory = getSessionFactory();
+
 		final JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder();
-		this.sqlAst = LoaderSelectBuilder.createSelect(
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
 				attributeMapping,
 				null,
 				attributeMapping.getKeyDescriptor(),
 				null,
 				sqlBatchSize,
-				influencers,
+				getInfluencers(),
 				LockOptions.NONE,
 				jdbcParametersBuilder::add,
 				sessionFactory
@@ -76,14 +89,23 @@ public CollectionBatchLoaderInPredicate(
 		final TableGroup tableGroup = querySpec.getFromClause().getRoots().get( 0 );
 		attributeMapping.applySoftDeleteRestrictions( tableGroup, querySpec::applyPredicate );
 
-		this.jdbcParameters = jdbcParametersBuilder.build();
-		assert this.jdbcParameters.size() == this.sqlBatchSize * this.keyColumnCount;
+		final JdbcParametersList jdbcParameters = jdbcParametersBuilder.build();
+		assert jdbcParameters.size() == sqlBatchSize * keyColumnCount;
 
-		jdbcSelect = sessionFactory.getJdbcServices()
+		final JdbcOperationQuerySelect jdbcSelect = sessionFactory.getJdbcServices()
 				.getJdbcEnvironment()
 				.getSqlAstTranslatorFactory()
 				.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+
+		return new MultiKeyLoadChunker<>(
+				sqlBatchSize,
+				keyColumnCount,
+				attributeMapping.getKeyDescriptor(),
+				jdbcParameters,
+				sqlAst,
+				jdbcSelect
+		);
 	}
 
 	@Override
@@ -98,26 +120,22 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 			);
 		}
 
-		final MultiKeyLoadChunker<Object> chunker = new MultiKeyLoadChunker<>(
-				sqlBatchSize,
-				keyColumnCount,
-				getLoadable().getKeyDescriptor(),
-				jdbcParameters,
-				sqlAst,
-				jdbcSelect
-		);
+		final int keyCount = countIds( keysToInitialize ) + 1;
+		final MultiKeyLoadChunker<Object> chunker =
+				adaptiveChunkers == null ? this.chunker : adaptiveChunkers.chunkerFor( keyCount );
+		final int chunkSize = chunker.getChunkSize();
 
 		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
 
 		chunker.processChunks(
 				keysToInitialize,
-				countIds( keysToInitialize ),
+				adaptiveChunkers == null ? countIds( keysToInitialize ) : keyCount,
 				(jdbcParameterBindings, session1) -> {
 					// Create a RegistrationHandler for handling any subselect fetches we encounter handling this chunk
 					final SubselectFetch.RegistrationHandler registrationHandler = SubselectFetch.createRegistrationHandler(
 							batchFetchQueue,
-							sqlAst,
-							jdbcParameters,
+							chunker.getSqlAst(),
+							chunker.getJdbcParameters(),
 							jdbcParameterBindings
 					);
 					return new ExecutionContextWithSubselectFetchHandler( session, registrationHandler );
@@ -131,7 +149,7 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 								getLoadable().getNavigableRole().getFullPath(),
 								key,
 								startIndex,
-								startIndex + (sqlBatchSize-1)
+								startIndex + (chunkSize-1)
 						);
 					}
 				},
@@ -142,7 +160,7 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 								getLoadable().getNavigableRole().getFullPath(),
 								key,
 								startIndex,
-								startIndex + (sqlBatchSize-1),
+								startIndex + (chunkSize-1),
 								nonNullElementCount
 						);
 					}
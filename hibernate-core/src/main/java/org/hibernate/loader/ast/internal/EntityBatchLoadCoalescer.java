@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces the batch loads of an entity type which are issued concurrently by
+ * different sessions.
+ * <p>
+ * The first session to issue a batch load becomes the leader of a new {@link Batch}.
+ * It waits for the coalescing window to elapse, and then loads the ids requested by
+ * every session which joined the batch in the meantime, storing the loaded state in
+ * the second-level cache.  The other sessions wait for the load of the leader to
+ * complete, and then look for the entities they requested in the second-level cache.
+ * <p>
+ * The load of the leader may be blocked by a session waiting for it, for example on
+ * a row lock or on a pooled connection, which the database cannot detect.  So the
+ * other sessions wait at most the coalescing window again once the batch is closed,
+ * and load their own ids when the load of the leader is late or failed.
+ * <p>
+ * Batches are kept apart by tenant.
+ *
+ * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_COALESCING_WINDOW
+ */
+class EntityBatchLoadCoalescer {
+	private final long windowNanos;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<Object, Batch> openBatchesByTenant = new HashMap<>();
+
+	EntityBatchLoadCoalescer(long windowMillis) {
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos( windowMillis );
+	}
+
+	/**
+	 * Join the open batch of the given tenant, or open a new one led by
+	 * the calling thread if there is none.
+	 */
+	Batch join(Object[] ids, Object tenantIdentifier) {
+		lock.lock();
+		try {
+			final Batch openBatch = openBatchesByTenant.get( tenantIdentifier );
+			if ( openBatch != null ) {
+				openBatch.add( ids );
+				return openBatch;
+			}
+			else {
+				final Batch batch = new Batch( ids, tenantIdentifier );
+				openBatchesByTenant.put( tenantIdentifier, batch );
+				return batch;
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	class Batch {
+		private final Thread leader = Thread.currentThread();
+		private final long deadline = System.nanoTime() + windowNanos;
+		private final Object tenantIdentifier;
+		// the ids of the leader, which give the type of the array of ids to load
+		private final Object[] leaderIds;
+		private final Set<Object> ids = new LinkedHashSet<>();
+		private final CompletableFuture<Boolean> loaded = new CompletableFuture<>();
+
+		private Batch(Object[] leaderIds, Object tenantIdentifier) {
+			this.leaderIds = leaderIds;
+			this.tenantIdentifier = tenantIdentifier;
+			add( leaderIds );
+		}
+
+		private void add(Object[] idsToAdd) {
+			for ( Object id : idsToAdd ) {
+				if ( id != null ) {
+					ids.add( id );
+				}
+			}
+		}
+
+		boolean isLeader() {
+			return leader == Thread.currentThread();
+		}
+
+		/**
+		 * Called by the leader: wait for the coalescing window to elapse,
+		 * then close the batch to other sessions.
+		 *
+		 * @return the ids requested by all the sessions which joined the batch
+		 */
+		Object[] close() {
+			long remaining = deadline - System.nanoTime();
+			// an interrupt cuts the window short
+			while ( remaining > 0 && !Thread.currentThread().isInterrupted() ) {
+				LockSupport.parkNanos( this, remaining );
+				remaining = deadline - System.nanoTime();
+			}
+			lock.lock();
+			try {
+				openBatchesByTenant.remove( tenantIdentifier, this );
+				return ids.toArray( Arrays.copyOf( leaderIds, 0 ) );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Called by the leader once its load is over, successfully or not.
+		 */
+		void complete(boolean successful) {
+			loaded.complete( successful );
+		}
+
+		/**
+		 * Called by the other sessions: wait for the load of the leader to complete.
+		 *
+		 * @return whether the load of the leader completed successfully in time
+		 */
+		boolean awaitCompletion() {
+			try {
+				return loaded.get( deadline + windowNanos - System.nanoTime(), TimeUnit.NANOSECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			catch (ExecutionException | TimeoutException e) {
+				return false;
+			}
+		}
+	}
+}
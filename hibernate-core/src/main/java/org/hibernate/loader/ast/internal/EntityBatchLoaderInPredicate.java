@@ -23,6 +23,7 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
 
 /**
@@ -32,6 +33,8 @@
  * <p>
  * The number of parameters rendered into the SQL is controlled by {@linkplain #getSqlBatchSize()}.
  * Any unused parameter slots for a particular execution are set to {@code null}.
+ * In {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive} mode,
+ * it is instead picked for each load from the number of ids to initialize.
  *
  * @author Steve Ebersole
  */
@@ -42,9 +45,8 @@
 	private final int sqlBatchSize;
 
 	private final LoadQueryInfluencers loadQueryInfluencers;
-	private final JdbcParametersList jdbcParameters;
-	private final SelectStatement sqlAst;
-	private final JdbcOperationQuerySelect jdbcSelectOperation;
+	private final MultiKeyLoadChunker<Object> chunker;
+	private final AdaptiveMultiKeyLoadChunkers<Object> adaptiveChunkers;
 
 	/**
 	 * @param domainBatchSize The maximum number of entities we will initialize for each load
@@ -73,11 +75,22 @@ public EntityBatchLoaderInPredicate(
 			);
 		}
 
+		chunker = createChunker( sqlBatchSize );
+		adaptiveChunkers = isAdaptive()
+				? new AdaptiveMultiKeyLoadChunkers<>(
+						idColumnCount,
+						sessionFactory.getJdbcServices().getDialect(),
+						this::createChunker
+				)
+				: null;
+	}
+
+	private MultiKeyLoadChunker<Object> createChunker(int sqlBatchSize) {
 		final EntityIdentifierMapping identifierMapping = getLoadable().getIdentifierMapping();
 
 		final int expectedNumberOfParameters = identifierMapping.getJdbcTypeCount() * sqlBatchSize;
 		final JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder( expectedNumberOfParameters );
-		sqlAst = LoaderSelectBuilder.createSelect(
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
 				getLoadable(),
 				// null here means to select everything
 				null,
@@ -89,14 +102,23 @@ public EntityBatchLoaderInPredicate(
 				jdbcParametersBuilder::add,
 				sessionFactory
 		);
-		this.jdbcParameters = jdbcParametersBuilder.build();
+		final JdbcParametersList jdbcParameters = jdbcParametersBuilder.build();
 		assert jdbcParameters.size() == expectedNumberOfParameters;
 
-		jdbcSelectOperation = sessionFactory.getJdbcServices()
+		final JdbcOperationQuerySelect jdbcSelectOperation = sessionFactory.getJdbcServices()
 				.getJdbcEnvironment()
 				.getSqlAstTranslatorFactory()
 				.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+
+		return new MultiKeyLoadChunker<>(
+				sqlBatchSize,
+				identifierMapping.getJdbcTypeCount(),
+				identifierMapping,
+				jdbcParameters,
+				sqlAst,
+				jdbcSelectOperation
+		);
 	}
 
 	@Override
@@ -115,7 +137,7 @@ public final T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, S
 
 	protected Object[] resolveIdsToInitialize(Object id, SharedSessionContractImplementor session) {
 		return session.getPersistenceContextInternal().getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), id, domainBatchSize );
+				.getBatchLoadableEntityIds( getLoadable(), id, getBatchSize( session ) );
 	}
 
 	@Override
@@ -130,26 +152,22 @@ protected void initializeEntities(
 			MULTI_KEY_LOAD_LOGGER.debugf( "Ids to batch-fetch initialize (`%s#%s`) %s",
 					getLoadable().getEntityName(), pkValue, Arrays.toString(idsToInitialize) );
 		}
-		final MultiKeyLoadChunker<Object> chunker = new MultiKeyLoadChunker<>(
-				sqlBatchSize,
-				getLoadable().getIdentifierMapping().getJdbcTypeCount(),
-				getLoadable().getIdentifierMapping(),
-				jdbcParameters,
-				sqlAst,
-				jdbcSelectOperation
-		);
+		final int idCount = countIds( idsToInitialize ) + 1;
+		final MultiKeyLoadChunker<Object> chunker =
+				adaptiveChunkers == null ? this.chunker : adaptiveChunkers.chunkerFor( idCount );
+		final int chunkSize = chunker.getChunkSize();
 
 		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
 
 		chunker.processChunks(
 				idsToInitialize,
-				sqlBatchSize,
+				idCount,
 				(jdbcParameterBindings, session1) -> {
 					// Create a RegistrationHandler for handling any subselect fetches we encounter handling this chunk
 					final SubselectFetch.RegistrationHandler registrationHandler = SubselectFetch.createRegistrationHandler(
 							batchFetchQueue,
-							sqlAst,
-							jdbcParameters,
+							chunker.getSqlAst(),
+							chunker.getJdbcParameters(),
 							jdbcParameterBindings
 					);
 					return new SingleIdExecutionContext(
@@ -178,7 +196,7 @@ protected void initializeEntities(
 								getLoadable().getEntityName(),
 								pkValue,
 								startIndex,
-								startIndex + ( sqlBatchSize - 1 )
+								startIndex + ( chunkSize - 1 )
 						);
 					}
 				},
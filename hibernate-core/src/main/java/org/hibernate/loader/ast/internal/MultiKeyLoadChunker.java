@@ -69,6 +69,18 @@ public MultiKeyLoadChunker(
 		this.jdbcSelect = jdbcSelect;
 	}
 
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public JdbcParametersList getJdbcParameters() {
+		return jdbcParameters;
+	}
+
+	public SelectStatement getSqlAst() {
+		return sqlAst;
+	}
+
 	/**
 	 * Process the chunks
 	 *
@@ -19,6 +19,12 @@
  * @author Steve Ebersole
  */
 public class MultiKeyLoadHelper {
+	/**
+	 * The maximum number of keys initialized by a batch fetch in
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive} mode.
+	 */
+	static final int MAX_ADAPTIVE_BATCH_SIZE = 1024;
+
 	private MultiKeyLoadHelper() {
 	}
 
@@ -65,6 +71,15 @@ static int countIds(Object[] ids) {
 		return count;
 	}
 
+	/**
+	 * The number of keys to initialize in
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive} mode,
+	 * given the number of keys waiting in the batch-fetch queue.
+	 */
+	static int adaptiveBatchSize(int domainBatchSize, int queueDepth) {
+		return Math.max( domainBatchSize, Math.min( queueDepth, MAX_ADAPTIVE_BATCH_SIZE ) );
+	}
+
 	static boolean hasSingleId(Object[] ids) {
 		for ( int i=1; i<ids.length; i++ ) {
 			if ( ids[i] != null ) {
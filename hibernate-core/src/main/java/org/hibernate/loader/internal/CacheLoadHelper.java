@@ -173,7 +173,11 @@ private static Object processCachedEntry(
 			final EntityKey entityKey) {
 		final CacheEntry entry = (CacheEntry)
 				persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// the entry was written for a different version of the mapping
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException( "Attempt to load entity from cache using provided object instance, "
 						+ "but cache is storing references: " + entityKey.getIdentifier() );
@@ -396,6 +400,10 @@ public static boolean initializeCollectionFromCache(
 			else {
 				final CollectionCacheEntry cacheEntry = (CollectionCacheEntry)
 						persister.getCacheEntryStructure().destructure( ce, factory );
+				if ( cacheEntry == null ) {
+					// the entry was written for a different version of the mapping
+					return false;
+				}
 				final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 				cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( key, persister ) );
 				persistenceContext.getCollectionEntry( collection ).postInitialize( collection, source );
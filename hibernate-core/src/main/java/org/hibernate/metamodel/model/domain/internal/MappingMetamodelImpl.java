@@ -5,13 +5,21 @@
 package org.hibernate.metamodel.model.domain.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -34,6 +42,7 @@
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
 import org.hibernate.metamodel.model.domain.BasicDomainType;
@@ -49,6 +58,7 @@
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.spi.PersisterFactory;
 import org.hibernate.proxy.LazyInitializer;
@@ -76,6 +86,8 @@
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
 
+import static org.hibernate.cfg.PersistenceSettings.SESSION_FACTORY_INITIALIZATION_PARALLELISM;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.metamodel.internal.JpaMetamodelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetamodelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
@@ -173,20 +185,29 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 
 		MappingModelCreationProcess.process( entityPersisterMap, collectionPersisterMap, context );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+		final Map<String, Object> settings = context.getSettings();
+		final int parallelism = getInt( SESSION_FACTORY_INITIALIZATION_PARALLELISM, settings, 1 );
+		if ( parallelism > 1 ) {
+			initializePersistersInParallel( parallelism );
 		}
+		else {
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+			}
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.prepareLoaders();
+			}
+
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
 		}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+		for ( EntityPersister persister : entityPersisterMap.values() ) {
+			registerEntityNameResolvers( persister, entityNameResolvers );
+		}
 
 		registerEmbeddableMappingType( bootModel );
 
-		final Map<String, Object> settings = context.getSettings();
 		jpaMetamodel.processJpa(
 				bootModel,
 				this,
@@ -198,6 +219,103 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 		);
 	}
 
+	/**
+	 * Initialize the persisters using a pool of threads, in the same phases as when they are
+	 * initialized sequentially: the {@linkplain EntityPersister#postInstantiate() entity persisters},
+	 * then their {@linkplain EntityPersister#prepareLoaders() loaders}, then the collection persisters.
+	 * The entity persisters of a hierarchy are initialized together, by the same task, from the root
+	 * entity down, since a subclass persister may depend on the state of its superclass persister.
+	 */
+	private void initializePersistersInParallel(int parallelism) {
+		// a persister is registered under both its entity name and its class name
+		final Set<EntityPersister> entityPersisters = Collections.newSetFromMap( new IdentityHashMap<>() );
+		entityPersisters.addAll( Arrays.asList( entityPersisterMap.values() ) );
+		final Map<String, List<EntityPersister>> hierarchies = new HashMap<>();
+		for ( EntityPersister persister : entityPersisters ) {
+			hierarchies.computeIfAbsent( persister.getRootEntityName(), root -> new ArrayList<>() ).add( persister );
+		}
+		for ( List<EntityPersister> hierarchy : hierarchies.values() ) {
+			hierarchy.sort( Comparator.comparingInt( MappingMetamodelImpl::hierarchyDepth ) );
+		}
+
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool(
+				parallelism,
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+		try {
+			runInParallel( pool, hierarchies.values(),
+					hierarchy -> hierarchy.forEach( EntityPersister::postInstantiate ) );
+			runInParallel( pool, hierarchies.values(),
+					hierarchy -> hierarchy.forEach( EntityPersister::prepareLoaders ) );
+			runInParallel( pool, collectionPersisterMap.values(), CollectionPersister::postInstantiate );
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Start a background thread which builds the SQL operations and loaders of the entity
+	 * persisters which were {@linkplain org.hibernate.cfg.PersistenceSettings#SESSION_FACTORY_LAZY_PERSISTER_INITIALIZATION
+	 * initialized lazily} and not used yet, so that the first use of an entity does not pay
+	 * the cost of building them.
+	 */
+	public void warmUpPersisters() {
+		final Set<EntityPersister> entityPersisters = Collections.newSetFromMap( new IdentityHashMap<>() );
+		entityPersisters.addAll( Arrays.asList( entityPersisterMap.values() ) );
+		final Thread thread = new Thread(
+				() -> {
+					for ( EntityPersister persister : entityPersisters ) {
+						try {
+							// the persister builds them on first access
+							persister.getInsertCoordinator();
+							persister.getUpdateCoordinator();
+							persister.getDeleteCoordinator();
+							persister.getMergeCoordinator();
+							if ( persister instanceof AbstractEntityPersister abstractEntityPersister ) {
+								abstractEntityPersister.getSingleIdLoader();
+							}
+						}
+						catch (RuntimeException e) {
+							// the same failure happens again on first use, and is reported there
+							log.debugf( e, "Unable to warm up persister for entity '%s'", persister.getEntityName() );
+						}
+					}
+				},
+				"hibernate-persister-warmup"
+		);
+		thread.setDaemon( true );
+		thread.setContextClassLoader( Thread.currentThread().getContextClassLoader() );
+		thread.start();
+	}
+
+	private static int hierarchyDepth(EntityPersister persister) {
+		int depth = 0;
+		for ( EntityMappingType type = persister.getSuperMappingType(); type != null; type = type.getSuperMappingType() ) {
+			depth++;
+		}
+		return depth;
+	}
+
+	private static <T> void runInParallel(ForkJoinPool pool, java.util.Collection<T> items, Consumer<T> action) {
+		final List<ForkJoinTask<?>> tasks = new ArrayList<>( items.size() );
+		for ( T item : items ) {
+			tasks.add( pool.submit( () -> action.accept( item ) ) );
+		}
+		// joining the tasks makes their effects visible to this thread
+		for ( ForkJoinTask<?> task : tasks ) {
+			task.join();
+		}
+	}
+
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
 		bootModel.visitRegisteredComponents(
 				composite -> {
@@ -19,6 +19,7 @@
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCollectionCacheEntry;
 import org.hibernate.cache.spi.entry.StructuredCollectionCacheEntry;
 import org.hibernate.cache.spi.entry.StructuredMapCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
@@ -274,6 +275,9 @@ public AbstractCollectionPersister(
 					? StructuredMapCacheEntry.INSTANCE
 					: StructuredCollectionCacheEntry.INSTANCE;
 		}
+		else if ( creationContext.getSessionFactoryOptions().isCompactCacheEntriesEnabled() ) {
+			cacheEntryStructure = new CompactCollectionCacheEntry( this );
+		}
 		else {
 			cacheEntryStructure = UnstructuredCacheEntry.INSTANCE;
 		}
@@ -36,6 +36,7 @@
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -275,6 +276,7 @@
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -282,6 +284,7 @@
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hibernate.cfg.PersistenceSettings.SESSION_FACTORY_LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfManagedEntity;
@@ -303,6 +306,7 @@
 import static org.hibernate.internal.util.collections.CollectionHelper.isNotEmpty;
 import static org.hibernate.internal.util.collections.CollectionHelper.setOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.toSmallList;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 import static org.hibernate.metamodel.RepresentationMode.POJO;
 import static org.hibernate.persister.entity.DiscriminatorHelper.NOT_NULL_DISCRIMINATOR;
@@ -330,11 +334,12 @@
 	private final NavigableRole navigableRole;
 	private final SessionFactoryImplementor factory;
 	private final EntityEntryFactory entityEntryFactory;
+	private final EntityKey.IdentifierKind entityKeyIdentifierKind;
 
 	private final String sqlAliasStem;
 	private final String jpaEntityName;
 
-	private SingleIdEntityLoader<?> singleIdLoader;
+	private volatile SingleIdEntityLoader<?> singleIdLoader;
 	private MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
@@ -386,10 +391,15 @@
 	private String sqlVersionSelectString;
 
 	private EntityTableMapping[] tableMappings;
-	private InsertCoordinator insertCoordinator;
-	private UpdateCoordinator updateCoordinator;
-	private DeleteCoordinator deleteCoordinator;
-	private UpdateCoordinator mergeCoordinator;
+	// when lazyInitialization is enabled, these are built on first use
+	private final boolean lazyInitialization;
+	private volatile InsertCoordinator insertCoordinator;
+	private volatile UpdateCoordinator updateCoordinator;
+	private volatile DeleteCoordinator deleteCoordinator;
+	private volatile UpdateCoordinator mergeCoordinator;
+	// guards the lazy initialization of the coordinators and of the single id
+	// loader: a lock rather than a monitor, which would pin a virtual thread
+	private final ReentrantLock lazyInitializationLock = new ReentrantLock();
 
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
@@ -499,6 +509,9 @@ public AbstractEntityPersister(
 				? MutableEntityEntryFactory.INSTANCE
 				: ImmutableEntityEntryFactory.INSTANCE;
 
+		entityKeyIdentifierKind =
+				EntityKey.IdentifierKind.forIdentifierType( entityMetamodel.getIdentifierProperty().getType() );
+
 		// Handle any filters applied to the class level
 		filterHelper = isNotEmpty( persistentClass.getFilters() ) ? new FilterHelper(
 				persistentClass.getFilters(),
@@ -786,6 +799,12 @@ public AbstractEntityPersister(
 		if ( hasNamedQueryLoader() ) {
 			getNamedQueryMemento( creationContext.getBootModel() );
 		}
+
+		lazyInitialization = getBoolean(
+				SESSION_FACTORY_LAZY_PERSISTER_INITIALIZATION,
+				creationContext.getSettings(),
+				false
+		);
 	}
 
 	private NamedQueryMemento<?> getNamedQueryMemento(MetadataImplementor bootModel) {
@@ -994,22 +1013,78 @@ SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
 
 	@Override
 	public InsertCoordinator getInsertCoordinator() {
-		return insertCoordinator;
+		final InsertCoordinator coordinator = insertCoordinator;
+		return coordinator == null ? initializeInsertCoordinator() : coordinator;
+	}
+
+	private InsertCoordinator initializeInsertCoordinator() {
+		lazyInitializationLock.lock();
+		try {
+			if ( insertCoordinator == null ) {
+				insertCoordinator = buildInsertCoordinator();
+			}
+			return insertCoordinator;
+		}
+		finally {
+			lazyInitializationLock.unlock();
+		}
 	}
 
 	@Override
 	public UpdateCoordinator getUpdateCoordinator() {
-		return updateCoordinator;
+		final UpdateCoordinator coordinator = updateCoordinator;
+		return coordinator == null ? initializeUpdateCoordinator() : coordinator;
+	}
+
+	private UpdateCoordinator initializeUpdateCoordinator() {
+		lazyInitializationLock.lock();
+		try {
+			if ( updateCoordinator == null ) {
+				updateCoordinator = buildUpdateCoordinator();
+			}
+			return updateCoordinator;
+		}
+		finally {
+			lazyInitializationLock.unlock();
+		}
 	}
 
 	@Override
 	public DeleteCoordinator getDeleteCoordinator() {
-		return deleteCoordinator;
+		final DeleteCoordinator coordinator = deleteCoordinator;
+		return coordinator == null ? initializeDeleteCoordinator() : coordinator;
+	}
+
+	private DeleteCoordinator initializeDeleteCoordinator() {
+		lazyInitializationLock.lock();
+		try {
+			if ( deleteCoordinator == null ) {
+				deleteCoordinator = buildDeleteCoordinator();
+			}
+			return deleteCoordinator;
+		}
+		finally {
+			lazyInitializationLock.unlock();
+		}
 	}
 
 	@Override
 	public UpdateCoordinator getMergeCoordinator() {
-		return mergeCoordinator;
+		final UpdateCoordinator coordinator = mergeCoordinator;
+		return coordinator == null ? initializeMergeCoordinator() : coordinator;
+	}
+
+	private UpdateCoordinator initializeMergeCoordinator() {
+		lazyInitializationLock.lock();
+		try {
+			if ( mergeCoordinator == null ) {
+				mergeCoordinator = buildMergeCoordinator();
+			}
+			return mergeCoordinator;
+		}
+		finally {
+			lazyInitializationLock.unlock();
+		}
 	}
 
 	public String getVersionSelectString() {
@@ -1118,10 +1193,14 @@ else if ( canUseReferenceCacheEntries() ) {
 			// todo : do we also need to unset proxy factory?
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isStructuredCacheEntriesEnabled() ) {
+			return new StructuredCacheEntryHelper( this );
+		}
+		else if ( options.isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			return new StandardCacheEntryHelper( this );
 		}
 	}
 
@@ -1495,8 +1574,9 @@ public Object initializeLazyProperty(String fieldName, Object entity, SharedSess
 			final EntityDataAccess cacheAccess = getCacheAccessStrategy();
 			final Object cacheKey = cacheAccess.generateCacheKey(id, this, session.getFactory(), session.getTenantIdentifier() );
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, this, cacheAccess );
-			if ( ce != null ) {
-				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
+			final CacheEntry cacheEntry =
+					ce == null ? null : (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
+			if ( cacheEntry != null ) {
 				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
@@ -1995,7 +2075,7 @@ public String getDiscriminatorAlias(String suffix) {
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -2039,7 +2119,7 @@ protected GeneratedValuesProcessor createGeneratedValuesProcessor(
 	public Object forceVersionIncrement(Object id, Object currentVersion, SharedSessionContractImplementor session) {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 		return nextVersion;
 	}
 
@@ -2051,7 +2131,7 @@ public Object forceVersionIncrement(
 			SharedSessionContractImplementor session) throws HibernateException {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
 		return nextVersion;
 	}
 
@@ -2721,6 +2801,11 @@ protected void logStaticSQL() {
 				LOG.debugf( " Version select: %s", sqlVersionSelectString );
 			}
 
+			if ( lazyInitialization ) {
+				// the mutation operations are not generated yet
+				return;
+			}
+
 			{
 				final MutationOperationGroup staticInsertGroup = insertCoordinator.getStaticMutationOperationGroup();
 				if ( staticInsertGroup != null ) {
@@ -3158,7 +3243,9 @@ protected void postConstruct(Metadata mapping) throws MappingException {
 	@Override
 	public void prepareLoaders() {
 		// Hibernate Reactive needs to override the loaders
-		singleIdLoader = buildSingleIdEntityLoader();
+		if ( !lazyInitialization ) {
+			singleIdLoader = buildSingleIdEntityLoader();
+		}
 		multiIdLoader = buildMultiIdLoader();
 
 		lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
@@ -3193,10 +3280,12 @@ private void doLateInit() {
 			updateGeneratedValuesProcessor = createGeneratedValuesProcessor( UPDATE, updateGeneratedAttributes );
 		}
 
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
-		mergeCoordinator = buildMergeCoordinator();
+		if ( !lazyInitialization ) {
+			insertCoordinator = buildInsertCoordinator();
+			updateCoordinator = buildUpdateCoordinator();
+			deleteCoordinator = buildDeleteCoordinator();
+			mergeCoordinator = buildMergeCoordinator();
+		}
 
 		//select SQL
 		sqlVersionSelectString = generateSelectVersionString();
@@ -3528,7 +3617,21 @@ private boolean hasNamedQueryLoader() {
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
-		return singleIdLoader;
+		final SingleIdEntityLoader<?> loader = singleIdLoader;
+		return loader == null ? initializeSingleIdLoader() : loader;
+	}
+
+	private SingleIdEntityLoader<?> initializeSingleIdLoader() {
+		lazyInitializationLock.lock();
+		try {
+			if ( singleIdLoader == null ) {
+				singleIdLoader = buildSingleIdEntityLoader();
+			}
+			return singleIdLoader;
+		}
+		finally {
+			lazyInitializationLock.unlock();
+		}
 	}
 
 	@Override
@@ -4624,6 +4727,11 @@ public EntityEntryFactory getEntityEntryFactory() {
 		return this.entityEntryFactory;
 	}
 
+	@Override
+	public EntityKey.IdentifierKind getEntityKeyIdentifierKind() {
+		return entityKeyIdentifierKind;
+	}
+
 	/**
 	 * Consolidated these onto a single helper because the 2 pieces work in tandem.
 	 */
@@ -4689,6 +4797,26 @@ public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version,
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -27,6 +27,7 @@
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.EntityEntryFactory;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -167,6 +168,17 @@ default String getSqlAliasStem() {
 	 */
 	EntityEntryFactory getEntityEntryFactory();
 
+	/**
+	 * The kind of identifier of this entity, which determines how an
+	 * {@link EntityKey} hashes and compares
+	 * identifiers.
+	 *
+	 * @since 7.0
+	 */
+	default EntityKey.IdentifierKind getEntityKeyIdentifierKind() {
+		return EntityKey.IdentifierKind.forIdentifierType( getIdentifierType() );
+	}
+
 	/**
 	 * Returns an object that identifies the space in which identifiers of
 	 * this entity hierarchy are unique.  Might be a table name, a JNDI URL, etc.
@@ -186,7 +186,12 @@ private static QueryInterpretationCache buildInterpretationCache(
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			final String implementation = ConfigurationHelper.getString(
+					AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION,
+					properties,
+					QueryInterpretationCacheStandardImpl.LIRS
+			);
+			return new QueryInterpretationCacheStandardImpl( size, implementation, serviceRegistry );
 		}
 		else {
 			// disabled
@@ -4,11 +4,14 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.internal.util.collections.ApproximateLruConcurrentMap;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -27,31 +30,69 @@
 import org.jboss.logging.Logger;
 
 /**
- * Standard QueryInterpretationCache implementation
+ * Standard QueryInterpretationCache implementation, bounded either by
+ * {@linkplain BoundedConcurrentHashMap LIRS eviction} or by a
+ * {@linkplain ApproximateLruConcurrentMap lock-free approximate LRU eviction}.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_IMPLEMENTATION
  *
  * @author Steve Ebersole
  */
 public class QueryInterpretationCacheStandardImpl implements QueryInterpretationCache {
 	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
 
+	public static final String LIRS = "lirs";
+	public static final String LOCK_FREE = "lock-free";
+
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final ConcurrentMap<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final ConcurrentMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final ConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
-		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, LIRS, serviceRegistry );
+	}
+
+	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, String implementation, ServiceRegistry serviceRegistry) {
+		log.debugf( "Starting QueryInterpretationCache(%s, %s)", maxQueryPlanCount, implementation );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.serviceRegistry = serviceRegistry;
+		switch ( implementation ) {
+			case LIRS:
+				this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+				this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+				this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+				break;
+			case LOCK_FREE:
+				this.queryPlanCache = new ApproximateLruConcurrentMap<>(
+						maxQueryPlanCount,
+						(key, plan) -> evicted( key.getQueryString() )
+				);
+				this.hqlInterpretationCache = new ApproximateLruConcurrentMap<>(
+						maxQueryPlanCount,
+						(key, interpretation) -> evicted( key instanceof HqlInterpretationCacheKey cacheKey
+								? cacheKey.queryString
+								: (String) key )
+				);
+				// not a query plan, so its evictions are not counted
+				this.nativeQueryParamCache = new ApproximateLruConcurrentMap<>( maxQueryPlanCount );
+				break;
+			default:
+				throw new ConfigurationException( "Unknown query plan cache implementation: " + implementation );
+		}
+	}
+
+	private void evicted(String queryString) {
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( queryString );
+		}
 	}
 
 	@Override
@@ -44,6 +44,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private String resultCacheRegionName;
 	private Boolean readOnlyEnabled;
 	private Boolean queryPlanCachingEnabled;
+	private boolean streamedResultEvictionEnabled;
 
 	private TupleTransformer<?> tupleTransformer;
 	private ResultListTransformer<?> resultListTransformer;
@@ -204,6 +205,16 @@ public Boolean isReadOnly() {
 		return readOnlyEnabled;
 	}
 
+	@Override
+	public void setStreamedResultEvictionEnabled(boolean enabled) {
+		this.streamedResultEvictionEnabled = enabled;
+	}
+
+	@Override
+	public boolean isStreamedResultEvictionEnabled() {
+		return streamedResultEvictionEnabled;
+	}
+
 	@Override
 	public void applyGraph(RootGraphImplementor<?> rootGraph, GraphSemantic graphSemantic) {
 		this.rootGraph = rootGraph;
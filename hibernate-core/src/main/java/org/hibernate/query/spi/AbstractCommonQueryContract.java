@@ -64,6 +64,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
 import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
+import static org.hibernate.jpa.HibernateHints.HINT_EVICT_STREAMED_RESULTS;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
@@ -184,6 +185,9 @@ protected void collectHints(Map<String, Object> hints) {
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
 		putIfNotNull( hints, HINT_QUERY_PLAN_CACHEABLE, getQueryOptions().getQueryPlanCachingEnabled() );
+		if ( getQueryOptions().isStreamedResultEvictionEnabled() ) {
+			hints.put( HINT_EVICT_STREAMED_RESULTS, true );
+		}
 
 		putIfNotNull( hints, HINT_SPEC_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
 		putIfNotNull( hints, HINT_JAVAEE_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
@@ -303,6 +307,9 @@ protected final boolean applySelectionHint(String hintName, Object value) {
 				case HINT_QUERY_PLAN_CACHEABLE:
 					queryOptions.setQueryPlanCachingEnabled( getBoolean( value ) );
 					return true;
+				case HINT_EVICT_STREAMED_RESULTS:
+					queryOptions.setStreamedResultEvictionEnabled( getBoolean( value ) );
+					return true;
 				case HINT_CACHEABLE:
 					queryOptions.setResultCachingEnabled( getBoolean( value ) );
 					return true;
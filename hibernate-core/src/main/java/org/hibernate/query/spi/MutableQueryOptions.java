@@ -87,6 +87,14 @@ default void setCacheMode(CacheMode cacheMode) {
 	 */
 	void addDatabaseHint(String hint);
 
+	/**
+	 * Corollary to {@link #isStreamedResultEvictionEnabled()}
+	 *
+	 * @since 7.0
+	 */
+	default void setStreamedResultEvictionEnabled(boolean enabled) {
+	}
+
 	void setTupleTransformer(TupleTransformer<?> transformer);
 
 	void setResultListTransformer(ResultListTransformer<?> transformer);
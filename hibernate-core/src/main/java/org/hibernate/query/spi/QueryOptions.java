@@ -193,6 +193,20 @@ default ListResultsConsumer.UniqueSemantic getUniqueSemantic(){
 		return null;
 	}
 
+	/**
+	 * Should entities loaded while reading the results forward only, for
+	 * example, through a {@linkplain org.hibernate.query.SelectionQuery#stream
+	 * stream}, be evicted from the persistence context once the results move
+	 * past the row which loaded them.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_EVICT_STREAMED_RESULTS
+	 *
+	 * @since 7.0
+	 */
+	default boolean isStreamedResultEvictionEnabled() {
+		return false;
+	}
+
 	/**
 	 * Provide singleton access for frequently needed options:
 	 */
@@ -7,6 +7,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 
@@ -17,6 +19,8 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
@@ -73,6 +77,7 @@
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
@@ -80,6 +85,7 @@
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final Lock lock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -89,6 +95,7 @@ public ConcreteSqmSelectQueryPlan(
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
@@ -377,8 +384,8 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		//		to protect access.  However, a simple lock is enough here.  It is not a monitor,
+		//		which would pin a virtual thread blocked waiting for the translation
 
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
@@ -386,11 +393,13 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		executionContext.getSession().autoPreFlush();
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			lock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
 							sqm,
+							hql,
 							domainParameterXref,
 							executionContext
 					);
@@ -409,6 +418,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 						localCopy = buildCacheableSqmInterpretation(
 								sqm,
+								hql,
 								domainParameterXref,
 								executionContext
 						);
@@ -418,6 +428,9 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					}
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -430,6 +443,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
+						hql,
 						domainParameterXref,
 						executionContext
 				);
@@ -464,23 +478,32 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
+			String hql,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
-
-		final SqmTranslation<SelectStatement> sqmInterpretation =
-				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
-						.createSelectTranslator(
-								sqm,
-								executionContext.getQueryOptions(),
-								domainParameterXref,
-								executionContext.getQueryParameterBindings(),
-								executionContext.getSession().getLoadQueryInfluencers(),
-								sessionFactory.getSqlTranslationEngine(),
-								true
-						)
-						.translate();
+		final EventMonitor eventMonitor = session.getEventMonitor();
+
+		final SqmTranslation<SelectStatement> sqmInterpretation;
+		final DiagnosticEvent sqmTranslationEvent = eventMonitor.beginSqmTranslationEvent();
+		try {
+			sqmInterpretation =
+					sessionFactory.getQueryEngine().getSqmTranslatorFactory()
+							.createSelectTranslator(
+									sqm,
+									executionContext.getQueryOptions(),
+									domainParameterXref,
+									executionContext.getQueryParameterBindings(),
+									executionContext.getSession().getLoadQueryInfluencers(),
+									sessionFactory.getSqlTranslationEngine(),
+									true
+							)
+							.translate();
+		}
+		finally {
+			eventMonitor.completeSqmTranslationEvent( sqmTranslationEvent, hql, session );
+		}
 
 		final FromClauseAccess tableGroupAccess = sqmInterpretation.getFromClauseAccess();
 
@@ -505,9 +528,22 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				session
 		);
 
+		JdbcOperationQuerySelect jdbcSelect = null;
+		final DiagnosticEvent sqlRenderingEvent = eventMonitor.beginSqlRenderingEvent();
+		try {
+			jdbcSelect = selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		}
+		finally {
+			eventMonitor.completeSqlRenderingEvent(
+					sqlRenderingEvent,
+					jdbcSelect == null ? null : jdbcSelect.getSqlString(),
+					session
+			);
+		}
+
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
-				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				jdbcSelect,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
@@ -9,6 +9,9 @@
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.resource.transaction.spi.TransactionCoordinator;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static java.lang.reflect.InvocationHandler.invokeDefault;
 import static java.lang.reflect.Proxy.newProxyInstance;
@@ -74,6 +77,19 @@ public interface JdbcSessionOwner {
 	 */
 	Integer getJdbcBatchSize();
 
+	/**
+	 * The options of the session, used to bind the values of statements
+	 * executed on behalf of this owner outside of the mutation executors,
+	 * as multi-row inserts are.
+	 *
+	 * @return {@code null} if this owner is not a session
+	 *
+	 * @since 7.0
+	 */
+	default @Nullable WrapperOptions getJdbcValueBindingOptions() {
+		return null;
+	}
+
 	default SqlExceptionHelper getSqlExceptionHelper() {
 		return getJdbcSessionContext().getJdbcServices().getSqlExceptionHelper();
 	}
@@ -8836,20 +8836,23 @@ private void renderInsertInto(TableInsertStandard tableInsert) {
 
 		getCurrentClauseStack().push( Clause.VALUES );
 		try {
-			sqlBuffer.append( ") values (" );
-
-			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
-				if ( columnPosition > 0 ) {
-					sqlBuffer.append( ',' );
-				}
-				columnValueBinding.getValueExpression().accept( this );
-			} );
+			sqlBuffer.append( ") values " );
+
+			for ( int row = 0; row < tableInsert.getRowCount(); row++ ) {
+				// every row binds its own parameters
+				sqlBuffer.append( row == 0 ? "(" : ",(" );
+				tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
+					if ( columnPosition > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					columnValueBinding.getValueExpression().accept( this );
+				} );
+				sqlBuffer.append( ')' );
+			}
 		}
 		finally {
 			getCurrentClauseStack().pop();
 		}
-
-		sqlBuffer.append( ")" );
 	}
 
 	/**
@@ -26,6 +26,7 @@
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
+import org.hibernate.sql.results.spi.StreamingResultsConsumer;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -165,6 +166,11 @@ default <R> ScrollableResultsImplementor<R> scroll(
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			int resultCountEstimate) {
+		final ResultsConsumer<ScrollableResultsImplementor<R>, R> resultsConsumer =
+				scrollMode == ScrollMode.FORWARD_ONLY
+						&& executionContext.getQueryOptions().isStreamedResultEvictionEnabled()
+						? StreamingResultsConsumer.instance()
+						: ScrollableResultsConsumer.instance();
 		return executeQuery(
 				jdbcSelect,
 				jdbcParameterBindings,
@@ -173,7 +179,7 @@ default <R> ScrollableResultsImplementor<R> scroll(
 				null,
 				resultCountEstimate,
 				StandardStatementCreator.getStatementCreator( scrollMode ),
-				ScrollableResultsConsumer.instance()
+				resultsConsumer
 		);
 	}
 
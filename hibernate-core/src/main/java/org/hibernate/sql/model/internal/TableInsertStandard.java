@@ -9,17 +9,21 @@
 
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ast.AbstractTableInsert;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
  */
 public class TableInsertStandard extends AbstractTableInsert {
 	private final List<ColumnReference> returningColumns;
+	private final int rowCount;
 
 	public TableInsertStandard(
 			MutatingTableReference mutatingTable,
@@ -29,6 +33,47 @@ public TableInsertStandard(
 			List<ColumnValueParameter> parameters) {
 		super( mutatingTable, mutationTarget, parameters, valueBindings );
 		this.returningColumns = returningColumns;
+		this.rowCount = 1;
+	}
+
+	private TableInsertStandard(TableInsertStandard singleRowInsert, int rowCount) {
+		super(
+				singleRowInsert.getMutatingTable(),
+				singleRowInsert.getMutationTarget(),
+				singleRowInsert.getMutationComment(),
+				singleRowInsert.getParameters(),
+				singleRowInsert.getValueBindings()
+		);
+		this.returningColumns = singleRowInsert.returningColumns;
+		this.rowCount = rowCount;
+	}
+
+	/**
+	 * The number of rows inserted, each with the same value bindings,
+	 * and so with its own set of the {@linkplain #getParameters() parameters}
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Whether this insert may be {@linkplain #forRowCount rendered} as an
+	 * insert of several rows using a single {@code values} list
+	 */
+	public boolean supportsMultipleRows() {
+		return rowCount == 1
+			&& getNumberOfValueBindings() > 0
+			&& getNumberOfReturningColumns() == 0;
+	}
+
+	/**
+	 * An insert of the given number of rows, each bound like the row of this insert.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 */
+	public TableInsertStandard forRowCount(int rowCount) {
+		assert supportsMultipleRows();
+		return new TableInsertStandard( this, rowCount );
 	}
 
 	@Override
@@ -51,6 +96,22 @@ public boolean isCallable() {
 		return false;
 	}
 
+	@Override
+	protected JdbcInsertMutation createMutationOperation(
+			TableMapping tableDetails,
+			String sql,
+			List<JdbcParameterBinder> effectiveBinders) {
+		return new JdbcInsertMutation(
+				tableDetails,
+				getMutationTarget(),
+				sql,
+				isCallable(),
+				getExpectation(),
+				effectiveBinders,
+				supportsMultipleRows() ? this : null
+		);
+	}
+
 	@Override
 	public void accept(SqlAstWalker walker) {
 		walker.visitStandardTableInsert( this );
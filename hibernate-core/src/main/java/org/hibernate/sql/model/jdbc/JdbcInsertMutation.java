@@ -11,6 +11,9 @@
 import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.internal.TableInsertStandard;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Descriptor for a table insert originating from a flush
@@ -18,6 +21,8 @@
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private final @Nullable TableInsertStandard multiRowInsertModel;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
@@ -25,7 +30,29 @@ public JdbcInsertMutation(
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, null );
+	}
+
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			@Nullable TableInsertStandard multiRowInsertModel) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.multiRowInsertModel = multiRowInsertModel;
+	}
+
+	/**
+	 * The model this insert was translated from, if the insert may be rendered
+	 * as an insert of several rows.
+	 *
+	 * @see TableInsertStandard#forRowCount(int)
+	 */
+	public @Nullable TableInsertStandard getMultiRowInsertModel() {
+		return multiRowInsertModel;
 	}
 
 	@Override
@@ -0,0 +1,256 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+
+/**
+ * Columnar form of the query results put into the query cache, storing the values of
+ * each column of the cached rows together, instead of one {@code Object[]} per row:
+ * <ul>
+ *     <li>{@link Long}, {@link Integer} and {@link Double} values are stored in arrays of
+ *         primitives,
+ *     <li>{@link String} values are dictionary-encoded, so that each distinct value is
+ *         stored only once, and
+ *     <li>other values are stored in an {@code Object[]}.
+ * </ul>
+ * <p>
+ * This is a read-only view of the same list of data as the one built by
+ * {@link QueryCachePutManagerEnabledImpl}: the optional {@link CachedJdbcValuesMetadata},
+ * followed by the rows, followed by the result count.  The
+ * {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit} reads the values
+ * directly from the columns using {@link #getValue(int, int)}, without materializing
+ * the rows.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COLUMNAR_QUERY_CACHE
+ *
+ * @since 7.0
+ */
+public final class ColumnarCachedResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final CachedJdbcValuesMetadata metadata;
+	private final int rowCount;
+	private final boolean singleValueRows;
+	private final Column[] columns;
+	private final int resultCount;
+
+	private ColumnarCachedResults(
+			CachedJdbcValuesMetadata metadata,
+			int rowCount,
+			boolean singleValueRows,
+			Column[] columns,
+			int resultCount) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.singleValueRows = singleValueRows;
+		this.columns = columns;
+		this.resultCount = resultCount;
+	}
+
+	/**
+	 * Encode the data built by {@link QueryCachePutManagerEnabledImpl}.
+	 *
+	 * @param singleValueRows whether each row is a single value rather than an {@code Object[]}
+	 *
+	 * @return the columnar form of the data, or {@code null} if it has no rows
+	 */
+	public static ColumnarCachedResults from(List<?> data, boolean singleValueRows) {
+		final int offset = !data.isEmpty() && data.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
+		final int rowCount = data.size() - offset - 1;
+		if ( rowCount <= 0 ) {
+			return null;
+		}
+
+		final int columnCount = singleValueRows ? 1 : ( (Object[]) data.get( offset ) ).length;
+		final Column[] columns = new Column[columnCount];
+		final Object[] values = new Object[rowCount];
+		for ( int column = 0; column < columnCount; column++ ) {
+			for ( int row = 0; row < rowCount; row++ ) {
+				final Object rowData = data.get( row + offset );
+				values[row] = singleValueRows ? rowData : ( (Object[]) rowData )[column];
+			}
+			columns[column] = encode( values );
+		}
+		return new ColumnarCachedResults(
+				offset == 1 ? (CachedJdbcValuesMetadata) data.get( 0 ) : null,
+				rowCount,
+				singleValueRows,
+				columns,
+				(int) data.get( data.size() - 1 )
+		);
+	}
+
+	/**
+	 * The value of the given column of the given row.
+	 */
+	public Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	/**
+	 * The number of cached rows.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The number of results of the query.
+	 */
+	public int getResultCount() {
+		return resultCount;
+	}
+
+	@Override
+	public int size() {
+		return ( metadata == null ? 0 : 1 ) + rowCount + 1;
+	}
+
+	@Override
+	public Object get(int index) {
+		if ( metadata != null ) {
+			if ( index == 0 ) {
+				return metadata;
+			}
+			index--;
+		}
+		if ( index == rowCount ) {
+			return resultCount;
+		}
+		else if ( index < 0 || index > rowCount ) {
+			throw new IndexOutOfBoundsException( index );
+		}
+		else if ( singleValueRows ) {
+			return columns[0].get( index );
+		}
+		else {
+			final Object[] row = new Object[columns.length];
+			for ( int i = 0; i < columns.length; i++ ) {
+				row[i] = columns[i].get( index );
+			}
+			return row;
+		}
+	}
+
+	private static Column encode(Object[] values) {
+		Class<?> valueClass = null;
+		for ( Object value : values ) {
+			if ( value != null ) {
+				if ( valueClass == null ) {
+					valueClass = value.getClass();
+				}
+				else if ( valueClass != value.getClass() ) {
+					return new ObjectColumn( values.clone() );
+				}
+			}
+		}
+
+		if ( valueClass == Long.class ) {
+			final long[] longs = new long[values.length];
+			final BitSet nulls = nulls( values );
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					longs[i] = (Long) values[i];
+				}
+			}
+			return new LongColumn( longs, nulls );
+		}
+		else if ( valueClass == Integer.class ) {
+			final int[] ints = new int[values.length];
+			final BitSet nulls = nulls( values );
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					ints[i] = (Integer) values[i];
+				}
+			}
+			return new IntColumn( ints, nulls );
+		}
+		else if ( valueClass == Double.class ) {
+			final double[] doubles = new double[values.length];
+			final BitSet nulls = nulls( values );
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					doubles[i] = (Double) values[i];
+				}
+			}
+			return new DoubleColumn( doubles, nulls );
+		}
+		else if ( valueClass == String.class ) {
+			final Map<String, Integer> codes = new HashMap<>();
+			final int[] indexes = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				indexes[i] = values[i] == null
+						? -1
+						: codes.computeIfAbsent( (String) values[i], value -> codes.size() );
+			}
+			final String[] dictionary = new String[codes.size()];
+			codes.forEach( (value, code) -> dictionary[code] = value );
+			return new DictionaryColumn( dictionary, indexes );
+		}
+		else {
+			return new ObjectColumn( values.clone() );
+		}
+	}
+
+	private static BitSet nulls(Object[] values) {
+		BitSet nulls = null;
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] == null ) {
+				if ( nulls == null ) {
+					nulls = new BitSet( values.length );
+				}
+				nulls.set( i );
+			}
+		}
+		return nulls;
+	}
+
+	private interface Column extends Serializable {
+		Object get(int row);
+	}
+
+	private record LongColumn(long[] values, BitSet nulls) implements Column {
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private record IntColumn(int[] values, BitSet nulls) implements Column {
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private record DoubleColumn(double[] values, BitSet nulls) implements Column {
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private record DictionaryColumn(String[] dictionary, int[] codes) implements Column {
+		@Override
+		public Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+
+	private record ObjectColumn(Object[] values) implements Column {
+		@Override
+		public Object get(int row) {
+			return values[row];
+		}
+	}
+}
@@ -25,18 +25,25 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
+	private final boolean singleValueRows;
 	private final List<Object> dataToCache = new ArrayList<>();
 
+	/**
+	 * @param singleValueRows whether each row is {@linkplain #registerJdbcRow registered}
+	 *                        as a single value rather than as an {@code Object[]}
+	 */
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
 			StatisticsImplementor statistics,
 			QueryKey queryKey,
 			String queryIdentifier,
-			CachedJdbcValuesMetadata metadataForCache) {
+			CachedJdbcValuesMetadata metadataForCache,
+			boolean singleValueRows) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
+		this.singleValueRows = singleValueRows;
 		if ( metadataForCache != null ) {
 			dataToCache.add( metadataForCache );
 		}
@@ -59,11 +66,21 @@ public void finishUp(int resultCount, SharedSessionContractImplementor session)
 		}
 		final boolean put = queryCache.put(
 				queryKey,
-				dataToCache,
+				resultsToCache( session ),
 				session
 		);
 		if ( put && statistics.isStatisticsEnabled() ) {
 			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
 		}
 	}
+
+	private List<?> resultsToCache(SharedSessionContractImplementor session) {
+		if ( session.getFactory().getSessionFactoryOptions().isColumnarQueryCacheEnabled() ) {
+			final ColumnarCachedResults columnarResults = ColumnarCachedResults.from( dataToCache, singleValueRows );
+			if ( columnarResults != null ) {
+				return columnarResults;
+			}
+		}
+		return dataToCache;
+	}
 }
@@ -7,6 +7,7 @@
 import java.util.List;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.internal.ColumnarCachedResults;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
@@ -17,6 +18,8 @@
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	// the same cached results, when stored in columnar form
+	private ColumnarCachedResults columnarResults;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -27,6 +30,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		// See QueryCachePutManagerEnabledImpl for what is being put into the cached results
 		this.cachedResults = cachedResults;
+		this.columnarResults = cachedResults instanceof ColumnarCachedResults columnar ? columnar : null;
 		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
 		this.numberOfRows = cachedResults.size() - offset - 1;
 		this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
@@ -170,6 +174,12 @@ public Object getCurrentRowValue(int valueIndex) {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( columnarResults != null ) {
+			return columnarResults.getValue(
+					position,
+					valueIndexesToCacheIndexes == null ? valueIndex : valueIndexesToCacheIndexes[valueIndex]
+			);
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
@@ -186,6 +196,7 @@ else if ( row instanceof Object[] ) {
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
+		columnarResults = null;
 	}
 
 	@Override
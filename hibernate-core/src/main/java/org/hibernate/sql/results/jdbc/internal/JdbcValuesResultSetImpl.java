@@ -66,7 +66,8 @@ public JdbcValuesResultSetImpl(
 				queryOptions,
 				queryCacheKey,
 				queryIdentifier,
-				metadataForCache
+				metadataForCache,
+				valuesMapping
 		);
 		this.resultSetAccess = resultSetAccess;
 		this.resultSet = resultSetAccess.getResultSet();
@@ -125,7 +126,8 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 			QueryOptions queryOptions,
 			QueryKey queryCacheKey,
 			String queryIdentifier,
-			CachedJdbcValuesMetadata metadataForCache) {
+			CachedJdbcValuesMetadata metadataForCache,
+			JdbcValuesMapping valuesMapping) {
 		if ( queryCacheKey != null ) {
 			final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 			final QueryResultsCache queryCache = factory.getCache()
@@ -135,7 +137,9 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					// see finishRowProcessing()
+					valuesMapping.getValueIndexesToCacheIndexes() != null && valuesMapping.getRowToCacheSize() == 1
 			);
 		}
 		else {
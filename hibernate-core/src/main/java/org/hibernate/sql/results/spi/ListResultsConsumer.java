@@ -12,6 +12,8 @@
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -150,6 +152,10 @@ public List<R> consume(
 		rowReader.startLoading( rowProcessingState );
 
 		RuntimeException ex = null;
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent resultHydrationEvent = eventMonitor.beginResultHydrationEvent();
+		int rowCount = 0;
+		int resultCount = 0;
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		persistenceContext.beforeLoad();
 		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
@@ -164,9 +170,12 @@ public List<R> consume(
 			final int initialCollectionSize = Math.min( jdbcValues.getResultCountEstimate(), INITIAL_COLLECTION_SIZE_LIMIT );
 			final Results<R> results = createResults( isEntityResultType, domainResultJavaType, initialCollectionSize );
 			final int readRows = readRows( rowProcessingState, rowReader, isEntityResultType, results );
+			rowCount = readRows;
 			rowReader.finishUp( rowProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
-			return transformList( rowProcessingState, results );
+			final List<R> list = transformList( rowProcessingState, results );
+			resultCount = list.size();
+			return list;
 		}
 		catch (RuntimeException e) {
 			ex = e;
@@ -187,6 +196,7 @@ public List<R> consume(
 				}
 			}
 			finally {
+				eventMonitor.completeResultHydrationEvent( resultHydrationEvent, rowCount, resultCount, session );
 				if ( ex != null ) {
 					throw ex;
 				}
@@ -72,7 +72,7 @@ public boolean canResultsBeCached() {
 		return false;
 	}
 
-	private boolean containsCollectionFetches(JdbcValuesMapping valuesMapping) {
+	static boolean containsCollectionFetches(JdbcValuesMapping valuesMapping) {
 		final List<DomainResult<?>> domainResults = valuesMapping.getDomainResults();
 		for ( DomainResult<?> domainResult : domainResults ) {
 			if ( domainResult instanceof EntityResult && ( (EntityResult) domainResult ).containsCollectionFetches() ) {
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.spi;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.EvictingScrollableResultsImpl;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+import static org.hibernate.sql.results.spi.ScrollableResultsConsumer.containsCollectionFetches;
+
+/**
+ * A {@link ResultsConsumer} for results which are read forward only, row by row,
+ * and which evicts the entities loaded by a row from the persistence context as
+ * soon as the next row is read.  The memory used by the persistence context for
+ * the entities loaded by the query is therefore constant, whatever the number of
+ * rows.
+ * <p>
+ * Rows joining a fetched collection are not evicted, since the elements of the
+ * collection span several rows.  Nor are the rows read by a stateless session,
+ * whose temporary persistence context is cleared after each row anyway.  Such
+ * results are consumed exactly as by {@link ScrollableResultsConsumer}.
+ *
+ * @see org.hibernate.query.spi.QueryOptions#isStreamedResultEvictionEnabled()
+ *
+ * @since 7.0
+ */
+public class StreamingResultsConsumer<R> implements ResultsConsumer<ScrollableResultsImplementor<R>, R> {
+	@SuppressWarnings("rawtypes")
+	private static final StreamingResultsConsumer INSTANCE = new StreamingResultsConsumer();
+
+	@SuppressWarnings("unchecked")
+	public static <R> StreamingResultsConsumer<R> instance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		if ( !session.isEventSource() || containsCollectionFetches( jdbcValues.getValuesMapping() ) ) {
+			return ScrollableResultsConsumer.<R>instance().consume(
+					jdbcValues,
+					session,
+					processingOptions,
+					jdbcValuesSourceProcessingState,
+					rowProcessingState,
+					rowReader
+			);
+		}
+		else {
+			rowReader.startLoading( rowProcessingState );
+			return new EvictingScrollableResultsImpl<>(
+					jdbcValues,
+					processingOptions,
+					jdbcValuesSourceProcessingState,
+					rowProcessingState,
+					rowReader,
+					session
+			);
+		}
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
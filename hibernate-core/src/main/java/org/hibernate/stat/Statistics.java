@@ -406,4 +406,19 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans and HQL interpretations evicted from
+	 * the cache to make room for new ones.
+	 * <p>
+	 * Evictions are only counted by the
+	 * {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+	 * lock-free} query plan cache, and this is always zero with the default
+	 * LIRS eviction.
+	 *
+	 * @since 7.0
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
 }
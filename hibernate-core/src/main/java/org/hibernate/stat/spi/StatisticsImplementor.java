@@ -276,6 +276,16 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an entry was evicted from the query plan cache
+	 * to make room for a new one.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanCacheEviction(String query) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				MultiRowInsertBatchingTest.Parent.class,
+				MultiRowInsertBatchingTest.Child.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "8"),
+				@Setting(name = AvailableSettings.MULTI_ROW_INSERTS, value = "true"),
+				@Setting(name = AvailableSettings.ORDER_INSERTS, value = "true")
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiRowInsert.class)
+public class MultiRowInsertBatchingTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testRowsAreInsertedUsingPowersOfTwo(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 7; i++ ) {
+				session.persist( new Parent( i, "parent " + i ) );
+			}
+		} );
+
+		final List<String> inserts = statementInspector.getSqlQueries();
+		assertThat( inserts ).hasSize( 3 );
+		assertThat( inserts ).map( MultiRowInsertBatchingTest::countRows ).containsExactly( 4, 2, 1 );
+
+		scope.inTransaction( session -> {
+			final List<Parent> parents = session.createQuery( "from Parent order by id", Parent.class ).getResultList();
+			assertThat( parents ).hasSize( 7 );
+			assertThat( parents.get( 6 ).name ).isEqualTo( "parent 7" );
+		} );
+	}
+
+	@Test
+	public void testFullBatches(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				final Parent parent = new Parent( i, "parent " + i );
+				session.persist( parent );
+				session.persist( new Child( i, parent ) );
+			}
+		} );
+
+		// 10 rows per table, written as 8 + 2
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 4 );
+		assertThat( statementInspector.getSqlQueries() ).map( MultiRowInsertBatchingTest::countRows )
+				.containsExactly( 8, 2, 8, 2 );
+
+		scope.inTransaction( session -> {
+			final Child child = session.find( Child.class, 10L );
+			assertThat( child.parent.name ).isEqualTo( "parent 10" );
+		} );
+	}
+
+	@Test
+	public void testBatchExecutionEvents(SessionFactoryScope scope) {
+		final BatchExecutionCounter counter = new BatchExecutionCounter();
+		try (Session session = scope.getSessionFactory().withOptions().eventListeners( counter ).openSession()) {
+			session.getTransaction().begin();
+			for ( long i = 1; i <= 7; i++ ) {
+				session.persist( new Parent( i, "parent " + i ) );
+			}
+			session.getTransaction().commit();
+		}
+
+		// one event per multi-row insert
+		assertThat( counter.batchExecutions ).isEqualTo( 3 );
+	}
+
+	private static int countRows(String sql) {
+		return sql.split( "\\),\\(" ).length;
+	}
+
+	private static class BatchExecutionCounter implements SessionEventListener {
+		private int batchExecutions;
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			batchExecutions++;
+		}
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		Long id;
+
+		String name;
+
+		public Parent() {
+		}
+
+		public Parent(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
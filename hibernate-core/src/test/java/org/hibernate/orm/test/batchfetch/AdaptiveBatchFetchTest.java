@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Employee.class,
+		AdaptiveBatchFetchTest.Department.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class AdaptiveBatchFetchTest {
+	private static final int COUNT = 50;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntityBatchSizeFollowsQueue(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Employee> employees =
+					session.createSelectionQuery( "from Employee order by id", Employee.class ).getResultList();
+			statistics.clear();
+
+			Hibernate.initialize( employees.get( 0 ).department );
+
+			// all the departments were initialized at once, despite the batch size
+			for ( Employee employee : employees ) {
+				assertThat( Hibernate.isInitialized( employee.department ) ).isTrue();
+			}
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchSizeFollowsQueue(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Department> departments =
+					session.createSelectionQuery( "from Department order by id", Department.class ).getResultList();
+			statistics.clear();
+
+			Hibernate.initialize( departments.get( 0 ).employees );
+
+			for ( Department department : departments ) {
+				assertThat( Hibernate.isInitialized( department.employees ) ).isTrue();
+				assertThat( department.employees ).hasSize( 1 );
+			}
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	@BatchSize(size = 4)
+	public static class Department {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "department")
+		@BatchSize(size = 4)
+		List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = BatchFetchCoalescingTest.Currency.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.BATCH_FETCH_COALESCING_WINDOW, value = "2000")
+})
+@SessionFactory
+public class BatchFetchCoalescingTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Currency( 1, "CZK" ) );
+			session.persist( new Currency( 2, "EUR" ) );
+			session.persist( new Currency( 3, "GBP" ) );
+			session.persist( new Currency( 4, "USD" ) );
+		} );
+	}
+
+	// the coalescing window is large enough for the follower to join the batch of the leader
+	@Test
+	public void testConcurrentBatchFetches(SessionFactoryScope scope) throws Exception {
+		scope.getSessionFactory().getCache().evictAllRegions();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final FutureTask<Void> leader = new FutureTask<>( () -> fetch( scope, 1, "CZK", 2, "EUR" ), null );
+		final Thread leaderThread = new Thread( leader );
+		leaderThread.start();
+		// wait for the leader to open its coalescing window
+		awaitCoalescingWindow( leaderThread );
+
+		final FutureTask<Void> follower = new FutureTask<>( () -> fetch( scope, 3, "GBP", 4, "USD" ), null );
+		final Thread followerThread = new Thread( follower );
+		followerThread.start();
+		leader.get();
+		follower.get();
+
+		// the batch fetches of both sessions went through a single statement
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	private static void awaitCoalescingWindow(Thread thread) throws InterruptedException {
+		while ( !isCoalescing( thread ) ) {
+			assertThat( thread.isAlive() ).isTrue();
+			Thread.sleep( 10 );
+		}
+	}
+
+	private static boolean isCoalescing(Thread thread) {
+		final Object blocker = LockSupport.getBlocker( thread );
+		return thread.getState() == Thread.State.TIMED_WAITING
+			&& blocker != null
+			&& blocker.getClass().getName().startsWith( "org.hibernate.loader.ast.internal.EntityBatchLoadCoalescer" );
+	}
+
+	private static void fetch(
+			SessionFactoryScope scope,
+			Integer firstId,
+			String firstCode,
+			Integer secondId,
+			String secondCode) {
+		scope.inTransaction( session -> {
+			final Currency first = session.getReference( Currency.class, firstId );
+			final Currency second = session.getReference( Currency.class, secondId );
+			assertThat( first.getCode() ).isEqualTo( firstCode );
+			// either batch-fetched, or read from the second-level cache
+			assertThat( second.getCode() ).isEqualTo( secondCode );
+			// the instances requested by the other session are not attached
+			assertThat( session.getStatistics().getEntityKeys().stream().map( key -> ( (EntityKey) key ).getIdentifier() ) )
+					.containsExactlyInAnyOrder( firstId, secondId );
+		} );
+	}
+
+	@Entity(name = "Currency")
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	@BatchSize(size = 10)
+	public static class Currency {
+		@Id
+		Integer id;
+		String code;
+
+		public Currency() {
+		}
+
+		public Currency(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+
+		public String getCode() {
+			return code;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.boot.jaxb.mapping;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.mapping.PersistentClass;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.boot.jaxb.internal.XmlParseCache}
+ */
+public class XmlParseCacheTest {
+	private static final String MAPPING = "mappings/models/namespace/no-namespace.xml";
+	private static final String ENTITY_NAME = "SimpleEntity";
+
+	@Test
+	public void testBindingCached(@TempDir File cacheDirectory) throws IOException {
+		try ( StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.XML_PARSE_CACHE_DIRECTORY, cacheDirectory.getAbsolutePath() )
+				.build() ) {
+			verifyMapping( new MetadataSources( registry ).addResource( MAPPING ).buildMetadata() );
+
+			final List<Path> cachedFiles = cachedFiles( cacheDirectory );
+			assertThat( cachedFiles ).hasSize( 1 );
+			final Path cachedFile = cachedFiles.get( 0 );
+			final FileTime lastModified = FileTime.fromMillis( 0 );
+			Files.setLastModifiedTime( cachedFile, lastModified );
+
+			// the cached binding is read, and not written again
+			verifyMapping( new MetadataSources( registry ).addResource( MAPPING ).buildMetadata() );
+			assertThat( cachedFiles( cacheDirectory ) ).containsExactly( cachedFile );
+			assertThat( Files.getLastModifiedTime( cachedFile ) ).isEqualTo( lastModified );
+		}
+	}
+
+	@Test
+	public void testCorruptedBindingIgnored(@TempDir File cacheDirectory) throws IOException {
+		try ( StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.XML_PARSE_CACHE_DIRECTORY, cacheDirectory.getAbsolutePath() )
+				.build() ) {
+			new MetadataSources( registry ).addResource( MAPPING ).buildMetadata();
+			final Path cachedFile = cachedFiles( cacheDirectory ).get( 0 );
+			Files.write( cachedFile, new byte[] { 1, 2, 3 } );
+
+			// the mapping is bound again, and the cached binding replaced
+			verifyMapping( new MetadataSources( registry ).addResource( MAPPING ).buildMetadata() );
+			assertThat( Files.size( cachedFile ) ).isGreaterThan( 3 );
+		}
+	}
+
+	@Test
+	public void testBindingCachedPerValidation(@TempDir File cacheDirectory) throws IOException {
+		try ( StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.XML_PARSE_CACHE_DIRECTORY, cacheDirectory.getAbsolutePath() )
+				.applySetting( AvailableSettings.VALIDATE_XML, false )
+				.build() ) {
+			verifyMapping( new MetadataSources( registry ).addResource( MAPPING ).buildMetadata() );
+		}
+		assertThat( cachedFiles( cacheDirectory ) ).hasSize( 1 );
+
+		// the binding which was not validated is not used
+		try ( StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.XML_PARSE_CACHE_DIRECTORY, cacheDirectory.getAbsolutePath() )
+				.applySetting( AvailableSettings.VALIDATE_XML, true )
+				.build() ) {
+			verifyMapping( new MetadataSources( registry ).addResource( MAPPING ).buildMetadata() );
+		}
+		assertThat( cachedFiles( cacheDirectory ) ).hasSize( 2 );
+	}
+
+	@Test
+	public void testForeignClassRejected(@TempDir File cacheDirectory) throws IOException {
+		try ( StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.XML_PARSE_CACHE_DIRECTORY, cacheDirectory.getAbsolutePath() )
+				.build() ) {
+			new MetadataSources( registry ).addResource( MAPPING ).buildMetadata();
+			final Path cachedFile = cachedFiles( cacheDirectory ).get( 0 );
+			try ( OutputStream output = Files.newOutputStream( cachedFile );
+					ObjectOutputStream objectOutput = new ObjectOutputStream( output ) ) {
+				objectOutput.writeObject( new Payload() );
+			}
+
+			// the class is never deserialized, and the cached binding replaced
+			verifyMapping( new MetadataSources( registry ).addResource( MAPPING ).buildMetadata() );
+			assertThat( Payload.deserialized ).isFalse();
+		}
+	}
+
+	private static void verifyMapping(MetadataImplementor metadata) {
+		final PersistentClass entityBinding = metadata.getEntityBinding( ENTITY_NAME );
+		assertThat( entityBinding ).isNotNull();
+		assertThat( entityBinding.getTable().getName() ).isEqualTo( "simple_entity" );
+	}
+
+	private static List<Path> cachedFiles(File cacheDirectory) throws IOException {
+		try ( Stream<Path> files = Files.list( cacheDirectory.toPath() ) ) {
+			return files.toList();
+		}
+	}
+
+	public static class Payload implements Serializable {
+		static boolean deserialized;
+
+		private Object readResolve() {
+			deserialized = true;
+			return this;
+		}
+	}
+}
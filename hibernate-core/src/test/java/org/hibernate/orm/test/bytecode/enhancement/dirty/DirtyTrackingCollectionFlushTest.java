@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that clean, self dirtiness tracking entities with collections
+ * are not dirty checked on flush, and that changes are still detected.
+ */
+@DomainModel(
+		annotatedClasses = {
+				DirtyTrackingCollectionFlushTest.TagsEntity.class
+		}
+)
+@SessionFactory(
+		interceptorClass = DirtyTrackingCollectionFlushTest.DirtyCheckCountingInterceptor.class,
+		useCollectingStatementInspector = true
+)
+@BytecodeEnhanced
+public class DirtyTrackingCollectionFlushTest {
+
+	private static final AtomicInteger DIRTY_CHECKS = new AtomicInteger();
+
+	@BeforeEach
+	public void prepare(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final TagsEntity entity = new TagsEntity();
+			entity.id = 1L;
+			entity.name = "initial";
+			entity.tags = new ArrayList<>( List.of( "a", "b" ) );
+			session.persist( entity );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testCleanEntityIsNotDirtyChecked(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final TagsEntity entity = session.find( TagsEntity.class, 1L );
+			assertThat( entity.tags ).hasSize( 2 );
+			DIRTY_CHECKS.set( 0 );
+			statementInspector.clear();
+			session.flush();
+			assertThat( DIRTY_CHECKS ).hasValue( 0 );
+			statementInspector.assertNoUpdate();
+		} );
+	}
+
+	@Test
+	public void testChangesAreStillDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final TagsEntity entity = session.find( TagsEntity.class, 1L );
+			entity.tags.add( "c" );
+		} );
+		scope.inTransaction( session -> {
+			final TagsEntity entity = session.find( TagsEntity.class, 1L );
+			assertThat( entity.tags ).containsExactlyInAnyOrder( "a", "b", "c" );
+			entity.name = "changed";
+		} );
+		scope.inTransaction( session -> {
+			final TagsEntity entity = session.find( TagsEntity.class, 1L );
+			assertThat( entity.name ).isEqualTo( "changed" );
+			entity.tags = new ArrayList<>( List.of( "d" ) );
+		} );
+		scope.inTransaction( session -> {
+			final TagsEntity entity = session.find( TagsEntity.class, 1L );
+			assertThat( entity.tags ).containsExactly( "d" );
+		} );
+	}
+
+	@Test
+	public void testReplacedCollectionOfSameSizeIsDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final TagsEntity entity = session.find( TagsEntity.class, 1L );
+			assertThat( entity.tags ).hasSize( 2 );
+			entity.tags = new ArrayList<>( List.of( "c", "d" ) );
+		} );
+		scope.inTransaction( session -> {
+			final TagsEntity entity = session.find( TagsEntity.class, 1L );
+			assertThat( entity.name ).isEqualTo( "initial" );
+			assertThat( entity.tags ).containsExactlyInAnyOrder( "c", "d" );
+		} );
+	}
+
+	public static class DirtyCheckCountingInterceptor implements Interceptor {
+		@Override
+		public int[] findDirty(
+				Object entity,
+				Object id,
+				Object[] currentState,
+				Object[] previousState,
+				String[] propertyNames,
+				Type[] types) {
+			DIRTY_CHECKS.incrementAndGet();
+			return null;
+		}
+	}
+
+	@Entity
+	@Table( name = "TAGS_ENTITY" )
+	static class TagsEntity {
+
+		@Id
+		Long id;
+
+		String name;
+
+		@ElementCollection
+		List<String> tags;
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.internal.BatchingTimestampsCacheImpl;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		BatchingTimestampsCacheTest.Account.class,
+		BatchingTimestampsCacheTest.Customer.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_FACTORY, value = "org.hibernate.cache.internal.BatchingTimestampsCacheFactory"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_ASYNC_INVALIDATION, value = "true")
+}, settingProviders = @SettingProvider(
+		provider = BatchingTimestampsCacheTest.RegionFactorySettingProvider.class,
+		settingName = AvailableSettings.CACHE_REGION_FACTORY
+))
+@SessionFactory
+public class BatchingTimestampsCacheTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testSpacesInvalidatedTogether(SessionFactoryScope scope) throws InterruptedException {
+		assertThat( scope.getSessionFactory().getCache().getTimestampsCache() )
+				.isInstanceOf( BatchingTimestampsCacheImpl.class );
+		final CountingStorageAccess timestamps =
+				( (CountingRegionFactory) scope.getSessionFactory().getCache().getRegionFactory() ).timestamps;
+		timestamps.reset();
+
+		scope.inTransaction( session -> {
+			session.persist( new Account( 1L, 100 ) );
+			session.persist( new Customer( 1L, "Gavin" ) );
+		} );
+		// the invalidation is written asynchronously
+		for ( int i = 0; i < 100 && timestamps.putAllSizes.size() < 2; i++ ) {
+			Thread.sleep( 10 );
+		}
+		// both tables pre-invalidated by one put, then invalidated by another
+		assertThat( timestamps.putAllSizes ).containsExactly( 2, 2 );
+		assertThat( timestamps.singlePuts ).hasValue( 0 );
+		assertThat( scope.getSessionFactory().getStatistics().getUpdateTimestampsCachePutCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testQueryResultsInvalidated(SessionFactoryScope scope) throws InterruptedException {
+		scope.inTransaction( session -> session.persist( new Account( 1L, 100 ) ) );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		// the query results are not cached while the invalidation is pending,
+		// so keep executing the query until they are
+		for ( int i = 0; i < 100 && statistics.getQueryCacheHitCount() == 0; i++ ) {
+			assertThat( balances( scope ) ).containsExactly( 100 );
+			Thread.sleep( 10 );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isGreaterThan( 0 );
+
+		scope.inTransaction( session -> session.find( Account.class, 1L ).balance = 200 );
+		// the update is seen immediately, since the table is pre-invalidated
+		// until the asynchronous invalidation is written
+		assertThat( balances( scope ) ).containsExactly( 200 );
+		assertThat( balances( scope ) ).containsExactly( 200 );
+	}
+
+	private static List<Integer> balances(SessionFactoryScope scope) {
+		return scope.fromSession( session -> session.createSelectionQuery( "select balance from Account", Integer.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	public static class RegionFactorySettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return CountingRegionFactory.class.getName();
+		}
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		final CountingStorageAccess timestamps = new CountingStorageAccess();
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return timestamps;
+		}
+	}
+
+	static class CountingStorageAccess extends MapStorageAccessImpl {
+		final List<Integer> putAllSizes = new CopyOnWriteArrayList<>();
+		final AtomicInteger singlePuts = new AtomicInteger();
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			singlePuts.incrementAndGet();
+			super.putIntoCache( key, value, session );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+			putAllSizes.add( values.size() );
+			getOrMakeDataMap().putAll( values );
+		}
+
+		void reset() {
+			putAllSizes.clear();
+			singlePuts.set( 0 );
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		Long id;
+		int balance;
+
+		public Account() {
+		}
+
+		public Account(Long id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Long id;
+		String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
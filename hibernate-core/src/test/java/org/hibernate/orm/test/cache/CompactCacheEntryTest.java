@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cache.spi.entry.CompactCollectionCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		CompactCacheEntryTest.Vendor.class,
+		CompactCacheEntryTest.Product.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_COMPACT_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class CompactCacheEntryTest {
+	private static final UUID SKU = UUID.randomUUID();
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testCompactStructures(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		assertThat( factory.getMappingMetamodel().getEntityDescriptor( Product.class ).getCacheEntryStructure() )
+				.isInstanceOf( CompactCacheEntry.class );
+		assertThat( factory.getMappingMetamodel().getCollectionDescriptor( Product.class.getName() + ".stock" )
+				.getCacheEntryStructure() )
+				.isInstanceOf( CompactCollectionCacheEntry.class );
+	}
+
+	@Test
+	public void testEntityAndCollectionCaching(SessionFactoryScope scope) {
+		persistProduct( scope );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1L );
+			assertThat( product.name ).isEqualTo( "Widget" );
+			assertThat( product.price ).isEqualByComparingTo( "12.50" );
+			assertThat( product.released ).isEqualTo( LocalDate.of( 2024, 2, 29 ) );
+			assertThat( product.status ).isEqualTo( Status.AVAILABLE );
+			assertThat( product.sku ).isEqualTo( SKU );
+			assertThat( product.dimensions.width ).isEqualTo( 3 );
+			assertThat( product.dimensions.height ).isEqualTo( 4.5 );
+			assertThat( product.vendor.name ).isEqualTo( "Acme" );
+			assertThat( product.stock ).containsExactlyInAnyOrderEntriesOf( Map.of( "north", 10, "south", 0 ) );
+		} );
+
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		// the product, its vendor, and its stock
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testEntryOfUnknownSchemaIsIgnored(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Product.class );
+		final CompactCacheEntry structure = (CompactCacheEntry) persister.getCacheEntryStructure();
+
+		final byte[] entry = ByteBuffer.allocate( 9 ).putLong( structure.getSchemaId() + 1 ).array();
+		assertThat( structure.destructure( entry, factory ) ).isNull();
+
+		// an entry written by a node with a different mapping of the entity
+		persistProduct( scope );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, factory, null );
+		scope.inTransaction( session -> {
+			cacheAccess.evict( cacheKey );
+			assertThat( cacheAccess.putFromLoad( session, cacheKey, entry, null ) ).isTrue();
+		} );
+
+		final Statistics statistics = factory.getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1L ).name ).isEqualTo( "Widget" ) );
+		assertThat( statistics.getPrepareStatementCount() ).isPositive();
+	}
+
+	private static void persistProduct(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Vendor vendor = new Vendor( 1L, "Acme" );
+			session.persist( vendor );
+			final Product product = new Product();
+			product.id = 1L;
+			product.name = "Widget";
+			product.price = new BigDecimal( "12.50" );
+			product.released = LocalDate.of( 2024, 2, 29 );
+			product.status = Status.AVAILABLE;
+			product.sku = SKU;
+			product.dimensions = new Dimensions( 3, 4.5 );
+			product.vendor = vendor;
+			product.stock.put( "north", 10 );
+			product.stock.put( "south", 0 );
+			session.persist( product );
+		} );
+		// the collection is cached when it is first loaded
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1L ).stock ).hasSize( 2 ) );
+	}
+
+	public enum Status {
+		AVAILABLE,
+		DISCONTINUED
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		int width;
+		double height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Vendor")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Vendor {
+		@Id
+		Long id;
+
+		String name;
+
+		public Vendor() {
+		}
+
+		public Vendor(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		Long id;
+
+		String name;
+
+		BigDecimal price;
+
+		LocalDate released;
+
+		Status status;
+
+		UUID sku;
+
+		Dimensions dimensions;
+
+		@ManyToOne
+		Vendor vendor;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		Map<String, Integer> stock = new HashMap<>();
+	}
+}
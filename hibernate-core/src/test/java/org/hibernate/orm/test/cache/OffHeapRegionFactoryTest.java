@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		OffHeapRegionFactoryTest.Author.class,
+		OffHeapRegionFactoryTest.Book.class,
+		OffHeapRegionFactoryTest.Note.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory"),
+		@Setting(name = AvailableSettings.OFF_HEAP_CACHE_SLAB_SIZE, value = "1024"),
+		@Setting(name = AvailableSettings.OFF_HEAP_CACHE_MAX_REGION_SIZE + ".notes", value = "2048")
+})
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testEntityAndCollectionCaching(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getRegionFactory() ).isInstanceOf( OffHeapRegionFactory.class );
+
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			session.persist( author );
+			for ( long i = 1; i <= 3; i++ ) {
+				final Book book = new Book( i, "Book " + i, i * 1.5, i % 2 == 0 );
+				session.persist( book );
+				author.books.add( book );
+			}
+		} );
+
+		// the collection is cached when it is first loaded
+		scope.inTransaction( session -> assertThat( session.find( Author.class, 1L ).books ).hasSize( 3 ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1L );
+			assertThat( author.name ).isEqualTo( "Gavin" );
+			assertThat( author.books ).hasSize( 3 );
+			final Book book = session.find( Book.class, 2L );
+			assertThat( book.title ).isEqualTo( "Book 2" );
+			assertThat( book.price ).isEqualTo( 3.0 );
+			assertThat( book.available ).isTrue();
+		} );
+
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		// the author, its collection of books, and the books
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void testQueryCaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				session.persist( new Book( i, "Book " + i, i, true ) );
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<String> titles = session.createSelectionQuery( "select title from Book order by id", String.class )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( titles ).containsExactly( "Book 1", "Book 2", "Book 3", "Book 4", "Book 5" );
+			} );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testOldestEntriesAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 100; i++ ) {
+				session.persist( new Note( i, "Note number " + i + " which is long enough to fill the slabs" ) );
+			}
+		} );
+
+		final org.hibernate.Cache cache = scope.getSessionFactory().getCache();
+		assertThat( cache.containsEntity( Note.class, 1L ) ).isFalse();
+		assertThat( cache.containsEntity( Note.class, 100L ) ).isTrue();
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Note.class, 1L ).text ).startsWith( "Note number 1 " );
+			assertThat( session.find( Note.class, 100L ).text ).startsWith( "Note number 100 " );
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
+	public static class Author {
+		@Id
+		Long id;
+
+		String name;
+
+		@OneToMany
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		double price;
+
+		boolean available;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, double price, boolean available) {
+			this.id = id;
+			this.title = title;
+			this.price = price;
+			this.available = available;
+		}
+	}
+
+	@Entity(name = "Note")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "notes")
+	public static class Note {
+		@Id
+		Long id;
+
+		String text;
+
+		public Note() {
+		}
+
+		public Note(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.spi;
+
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.EntityKey.IdentifierKind;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		EntityKeyTest.LongEntity.class,
+		EntityKeyTest.LongSubEntity.class,
+		EntityKeyTest.IntegerEntity.class,
+		EntityKeyTest.UuidEntity.class,
+		EntityKeyTest.StringEntity.class,
+		EntityKeyTest.CompositeEntity.class
+})
+@SessionFactory
+public class EntityKeyTest {
+
+	@Test
+	public void testIdentifierKinds(SessionFactoryScope scope) {
+		final MappingMetamodel metamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( metamodel.getEntityDescriptor( LongEntity.class ).getEntityKeyIdentifierKind() )
+				.isEqualTo( IdentifierKind.LONG );
+		assertThat( metamodel.getEntityDescriptor( LongSubEntity.class ).getEntityKeyIdentifierKind() )
+				.isEqualTo( IdentifierKind.LONG );
+		assertThat( metamodel.getEntityDescriptor( IntegerEntity.class ).getEntityKeyIdentifierKind() )
+				.isEqualTo( IdentifierKind.INTEGER );
+		assertThat( metamodel.getEntityDescriptor( UuidEntity.class ).getEntityKeyIdentifierKind() )
+				.isEqualTo( IdentifierKind.UUID );
+		assertThat( metamodel.getEntityDescriptor( StringEntity.class ).getEntityKeyIdentifierKind() )
+				.isEqualTo( IdentifierKind.STRING );
+		assertThat( metamodel.getEntityDescriptor( CompositeEntity.class ).getEntityKeyIdentifierKind() )
+				.isEqualTo( IdentifierKind.OTHER );
+	}
+
+	@Test
+	public void testSpecializedKeys(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+
+		// values outside the range of the boxing caches, so that they are distinct instances
+		assertSameKey( metamodel.getEntityDescriptor( LongEntity.class ), Long.valueOf( 1000L ), Long.valueOf( 1000L ) );
+		assertSameKey( metamodel.getEntityDescriptor( IntegerEntity.class ), Integer.valueOf( 1000 ), Integer.valueOf( 1000 ) );
+		final UUID uuid = UUID.randomUUID();
+		assertSameKey(
+				metamodel.getEntityDescriptor( UuidEntity.class ),
+				uuid,
+				new UUID( uuid.getMostSignificantBits(), uuid.getLeastSignificantBits() )
+		);
+		assertSameKey( metamodel.getEntityDescriptor( StringEntity.class ), "key", new String( "key" ) );
+		assertSameKey(
+				metamodel.getEntityDescriptor( CompositeEntity.class ),
+				new CompositeId( 1, 2 ),
+				new CompositeId( 1, 2 )
+		);
+
+		final EntityPersister longPersister = metamodel.getEntityDescriptor( LongEntity.class );
+		assertThat( new EntityKey( 1L, longPersister ) ).isNotEqualTo( new EntityKey( 2L, longPersister ) );
+		// keys of a subclass are equal to keys of the root class
+		assertThat( new EntityKey( 1L, metamodel.getEntityDescriptor( LongSubEntity.class ) ) )
+				.isEqualTo( new EntityKey( 1L, longPersister ) );
+	}
+
+	private static void assertSameKey(EntityPersister persister, Object id, Object equalId) {
+		final EntityKey key = new EntityKey( id, persister );
+		final EntityKey equalKey = new EntityKey( equalId, persister );
+		assertThat( key ).isEqualTo( equalKey );
+		assertThat( key.hashCode() ).isEqualTo( equalKey.hashCode() );
+		// the specialized variants hash identifiers the same way as the identifier type
+		assertThat( key.hashCode() )
+				.isEqualTo( 37 * ( 37 * 17 + persister.getRootEntityName().hashCode() )
+						+ persister.getIdentifierType().getHashCode( id, persister.getFactory() ) );
+	}
+
+	@Entity(name = "LongEntity")
+	public static class LongEntity {
+		@Id
+		Long id;
+	}
+
+	@Entity(name = "LongSubEntity")
+	public static class LongSubEntity extends LongEntity {
+		String name;
+	}
+
+	@Entity(name = "IntegerEntity")
+	public static class IntegerEntity {
+		@Id
+		Integer id;
+	}
+
+	@Entity(name = "UuidEntity")
+	public static class UuidEntity {
+		@Id
+		UUID id;
+	}
+
+	@Entity(name = "StringEntity")
+	public static class StringEntity {
+		@Id
+		String id;
+	}
+
+	@Entity(name = "CompositeEntity")
+	public static class CompositeEntity {
+		@EmbeddedId
+		CompositeId id;
+	}
+
+	@Embeddable
+	public static class CompositeId {
+		Integer first;
+		Integer second;
+
+		public CompositeId() {
+		}
+
+		public CompositeId(Integer first, Integer second) {
+			this.first = first;
+			this.second = second;
+		}
+	}
+}
@@ -4,6 +4,15 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -15,6 +24,7 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -302,6 +312,144 @@ public void testBasicPooledThreadLocalLoOptimizerUsage() {
 
 	}
 
+	@Test
+	public void testBasicPooledLoStripedOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildPooledLoStripedOptimizer( 1, 3 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// force a "clock over"
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledLoStripedOptimizerObtainsNextBlockAhead() {
+		final SourceMock sequence = new SourceMock( 1, 8 );
+		final Optimizer optimizer = buildPooledLoStripedOptimizer( 1, 8 );
+
+		for ( int i = 1; i <= 6; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// three quarters of the block are consumed
+		assertEquals( 7, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+8), sequence.getCurrentValue() );
+
+		// the next block is already there
+		assertEquals( 8, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 9, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoStripedOptimizerUsage() throws Exception {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final AccessCallback callback = new AccessCallback() {
+			@Override
+			public synchronized IntegralDataTypeHolder getNextValue() {
+				return sequence.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+		final Optimizer optimizer = buildPooledLoStripedOptimizer( 1, 10 );
+
+		final int threadCount = 8;
+		final int valuesPerThread = 1000;
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threadCount; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						assertTrue( values.add( (Long) optimizer.generate( callback ) ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertEquals( threadCount * valuesPerThread, values.size() );
+		// all the values come from blocks obtained from the sequence
+		for ( Long value : values ) {
+			assertTrue( value >= 1 && value < sequence.getCurrentValue() + 10 );
+		}
+	}
+
+	@Test
+	public void testPooledLoPrefetchOptimizerWithoutSessionFactory() {
+		final SourceMock sequence = new SourceMock( 1, 8 );
+		final AtomicInteger isolatedCalls = new AtomicInteger();
+		final AccessCallback isolatedCallback = new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				isolatedCalls.incrementAndGet();
+				return sequence.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+		final AccessCallback callback = new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return sequence.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+
+			@Override
+			public AccessCallback getIsolatedCallback() {
+				return isolatedCallback;
+			}
+		};
+		final Optimizer optimizer = buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_PREFETCH, 1, 8 );
+
+		// with no SessionFactory to stop the background threads, the next block
+		// is obtained ahead by the inserting thread
+		for ( int i = 1; i <= 7; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( callback ) ).intValue() );
+		}
+		assertTrue( optimizer.getLastSourceValue().eq( 9 ) );
+
+		assertEquals( 8, ( (Long) optimizer.generate( callback ) ).intValue() );
+		assertEquals( 9, ( (Long) optimizer.generate( callback ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 0, isolatedCalls.get() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -322,6 +470,10 @@ private static Optimizer buildPooledThreadLocalLoOptimizer(long initial, int inc
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoStripedOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_STRIPED, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
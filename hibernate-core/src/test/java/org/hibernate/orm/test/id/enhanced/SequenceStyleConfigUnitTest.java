@@ -26,6 +26,7 @@
 import org.hibernate.id.enhanced.NoopOptimizer;
 import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.PooledLoStripedOptimizer;
 import org.hibernate.id.enhanced.PooledLoThreadLocalOptimizer;
 import org.hibernate.id.enhanced.PooledOptimizer;
 import org.hibernate.id.enhanced.SequenceStructure;
@@ -377,6 +378,14 @@ public void testPreferredPooledOptimizerSetting() {
 			generator.initialize( SqlStringGenerationContextImpl.forTests( database.getJdbcEnvironment() ) );
 			assertClassAssignability( SequenceStructure.class, generator.getDatabaseStructure().getClass() );
 			assertClassAssignability( PooledLoThreadLocalOptimizer.class, generator.getOptimizer().getClass() );
+
+			props.setProperty( Environment.PREFERRED_POOLED_OPTIMIZER, StandardOptimizerDescriptor.POOLED_LO_STRIPED.getExternalName() );
+			generator = new SequenceStyleGenerator();
+			generator.configure( creationContext, props );
+			generator.registerExportables( database );
+			generator.initialize( SqlStringGenerationContextImpl.forTests( database.getJdbcEnvironment() ) );
+			assertClassAssignability( SequenceStructure.class, generator.getDatabaseStructure().getClass() );
+			assertClassAssignability( PooledLoStripedOptimizer.class, generator.getOptimizer().getClass() );
 		}
 	}
 
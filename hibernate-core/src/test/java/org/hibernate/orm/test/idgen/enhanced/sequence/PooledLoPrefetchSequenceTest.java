@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.PooledLoPrefetchOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = PooledLoPrefetchSequenceTest.Ticket.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PREFERRED_POOLED_OPTIMIZER, value = "pooled-lo-prefetch"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsSequences.class)
+public class PooledLoPrefetchSequenceTest {
+
+	@Test
+	public void testNextBlockObtainedInBackground(SessionFactoryScope scope) throws Exception {
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Ticket.class )
+				.getIdentifierGenerator();
+		final Optimizer optimizer = generator.getOptimizer();
+		assertThat( optimizer ).isInstanceOf( PooledLoPrefetchOptimizer.class );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final Set<Long> ids = new HashSet<>();
+		scope.inTransaction( session -> {
+			// past three quarters of the first block
+			for ( int i = 0; i < 7; i++ ) {
+				final Ticket ticket = new Ticket();
+				session.persist( ticket );
+				ids.add( ticket.id );
+			}
+		} );
+
+		// the next block was requested over a connection of its own
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( !optimizer.getLastSourceValue().eq( 9 ) ) {
+			assertThat( System.nanoTime() ).isLessThan( deadline );
+			Thread.sleep( 10 );
+		}
+		// without opening a session
+		assertThat( statistics.getSessionOpenCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 19; i++ ) {
+				final Ticket ticket = new Ticket();
+				session.persist( ticket );
+				ids.add( ticket.id );
+			}
+		} );
+		assertThat( ids ).hasSize( 26 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Ticket", Long.class ).getSingleResult()
+		).isEqualTo( 26L ) );
+	}
+
+	@jakarta.persistence.Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "ticket_seq")
+		@SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_seq", allocationSize = 8)
+		Long id;
+	}
+}
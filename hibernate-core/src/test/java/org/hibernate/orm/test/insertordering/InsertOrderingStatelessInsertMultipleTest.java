@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InsertOrderingStatelessInsertMultipleTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parent.class, Child.class };
+	}
+
+	@Test
+	public void testInterleavedEntityTypes() {
+		final Parent firstParent = new Parent( 1L, "first" );
+		final Parent secondParent = new Parent( 2L, "second" );
+		final List<Object> entities = List.of(
+				new Child( 1L, "first child", firstParent ),
+				firstParent,
+				new Child( 2L, "second child", secondParent ),
+				secondParent,
+				new Child( 3L, "third child", firstParent )
+		);
+
+		sessionFactoryScope().inStatelessTransaction( session -> {
+			clearBatches();
+			session.insertMultiple( entities );
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Parent (name,id) values (?,?)", 2 ),
+				new Batch( "insert into Child (name,parent_id,id) values (?,?,?)", 3 )
+		);
+		verifyPreparedStatementCount( 2 );
+
+		sessionFactoryScope().inStatelessSession( session -> {
+			final Child child = session.get( Child.class, 3L );
+			assertThat( child.parent.id ).isEqualTo( 1L );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		Long id;
+
+		String name;
+
+		public Parent() {
+		}
+
+		public Parent(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, String name, Parent parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.internal.EntityInsertDependencies;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InsertOrderingWithEntityTypeDependencies extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Person.class, Pet.class, Dog.class, Cat.class, Visit.class, Album.class, Photo.class };
+	}
+
+	@Test
+	public void testEntityTypeDependencies() {
+		final MappingMetamodel metamodel = sessionFactory().getMappingMetamodel();
+		final EntityInsertDependencies dependencies = sessionFactory().getEntityInsertDependencies();
+		assertThat( sessionFactory().getEntityInsertDependencies() ).isSameAs( dependencies );
+
+		assertThat( dependencies.getDependencies( metamodel.getEntityDescriptor( Person.class ), false ) ).isEmpty();
+		assertThat( dependencies.getDependencies( metamodel.getEntityDescriptor( Dog.class ), false ) )
+				.containsExactly( metamodel.getEntityDescriptor( Person.class ) );
+		// an association to Pet is an association to all its subtypes
+		assertThat( dependencies.getDependencies( metamodel.getEntityDescriptor( Visit.class ), false ) )
+				.containsExactlyInAnyOrder(
+						metamodel.getEntityDescriptor( Pet.class ),
+						metamodel.getEntityDescriptor( Dog.class ),
+						metamodel.getEntityDescriptor( Cat.class )
+				);
+	}
+
+	@Test
+	public void testUnidirectionalOneToManyDependencies() {
+		final MappingMetamodel metamodel = sessionFactory().getMappingMetamodel();
+		final EntityInsertDependencies dependencies = sessionFactory().getEntityInsertDependencies();
+		final EntityPersister album = metamodel.getEntityDescriptor( Album.class );
+		final EntityPersister photo = metamodel.getEntityDescriptor( Photo.class );
+
+		// the foreign keys of the elements are written after all the inserts of a flush
+		assertThat( dependencies.getDependencies( photo, false ) ).containsExactly( album );
+		assertThat( dependencies.getDependencies( album, false ) ).isEmpty();
+		// but right after the insert of the owner when collections are written with their owner
+		assertThat( dependencies.getDependencies( album, true ) ).containsExactly( photo );
+		assertThat( dependencies.getDependencies( photo, true ) ).isEmpty();
+	}
+
+	@Test
+	public void testBatchOrdering() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Person person = new Person();
+				session.persist( person );
+				final Pet pet = i % 2 == 0 ? new Dog() : new Cat();
+				pet.owner = person;
+				session.persist( pet );
+				final Visit visit = new Visit();
+				visit.pet = pet;
+				session.persist( visit );
+			}
+
+			clearBatches();
+		} );
+
+		// one batch each for Person, Dog, Cat and Visit
+		verifyPreparedStatementCount( 4 );
+	}
+
+	@Entity(name = "Person")
+	static class Person {
+		@Id
+		@GeneratedValue
+		Long id;
+	}
+
+	@Entity(name = "Pet")
+	@Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+	static abstract class Pet {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@ManyToOne
+		Person owner;
+	}
+
+	@Entity(name = "Dog")
+	static class Dog extends Pet {
+	}
+
+	@Entity(name = "Cat")
+	static class Cat extends Pet {
+	}
+
+	@Entity(name = "Album")
+	static class Album {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@OneToMany
+		@JoinColumn(name = "album_id")
+		List<Photo> photos = new ArrayList<>();
+	}
+
+	@Entity(name = "Photo")
+	static class Photo {
+		@Id
+		@GeneratedValue
+		Long id;
+	}
+
+	@Entity(name = "Visit")
+	static class Visit {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@ManyToOne
+		Pet pet;
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.persister;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		LazyPersisterInitializationTest.Book.class,
+		LazyPersisterInitializationTest.Author.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.SESSION_FACTORY_LAZY_PERSISTER_INITIALIZATION, value = "true"),
+		@Setting(name = AvailableSettings.SESSION_FACTORY_PERSISTER_WARMUP, value = "true")
+})
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testCrud(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Author( 1L, "Gavin" ) );
+			session.persist( new Book( 2L, "Hibernate in Action" ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 2L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+			book.title = "Java Persistence with Hibernate";
+			session.find( Author.class, 1L ).name = "Christian";
+		} );
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 2L );
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.version ).isEqualTo( 1 );
+			session.lock( book, LockMode.OPTIMISTIC_FORCE_INCREMENT );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 2L ).version ).isEqualTo( 2 );
+			assertThat( session.find( Author.class, 1L ).name ).isEqualTo( "Christian" );
+			session.remove( session.find( Book.class, 2L ) );
+			session.remove( session.merge( new Author( 1L, "Christian" ) ) );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 2L ) ).isNull();
+			assertThat( session.find( Author.class, 1L ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testConcurrentFirstUse(SessionFactoryScope scope) {
+		final EntityPersister persister =
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Author.class );
+		final List<CompletableFuture<Object>> futures = new ArrayList<>();
+		for ( int i = 0; i < 8; i++ ) {
+			futures.add( CompletableFuture.supplyAsync( persister::getUpdateCoordinator ) );
+		}
+		final Object coordinator = persister.getUpdateCoordinator();
+		assertThat( coordinator ).isNotNull();
+		for ( CompletableFuture<Object> future : futures ) {
+			assertThat( future.join() ).isSameAs( coordinator );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		@Version
+		int version;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.persister;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		ParallelPersisterInitializationTest.Zoo.class,
+		ParallelPersisterInitializationTest.Animal.class,
+		ParallelPersisterInitializationTest.Mammal.class,
+		ParallelPersisterInitializationTest.Dog.class,
+		ParallelPersisterInitializationTest.Bird.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.SESSION_FACTORY_INITIALIZATION_PARALLELISM, value = "4"))
+@SessionFactory
+public class ParallelPersisterInitializationTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPersistersInitialized(SessionFactoryScope scope) {
+		scope.getSessionFactory().getMappingMetamodel().forEachEntityDescriptor(
+				persister -> assertThat( persister.getInsertCoordinator() ).isNotNull()
+		);
+
+		scope.inTransaction( session -> {
+			final Zoo zoo = new Zoo( 1L );
+			final Dog dog = new Dog( 2L, zoo, 4 );
+			final Bird bird = new Bird( 3L, zoo, true );
+			zoo.animals.add( dog );
+			zoo.animals.add( bird );
+			session.persist( zoo );
+			session.persist( dog );
+			session.persist( bird );
+		} );
+
+		scope.inTransaction( session -> {
+			final Zoo zoo = session.find( Zoo.class, 1L );
+			assertThat( zoo.animals ).hasSize( 2 );
+			assertThat( session.find( Mammal.class, 2L ) ).isInstanceOf( Dog.class );
+			session.find( Bird.class, 3L ).canFly = false;
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Bird.class, 3L ).canFly ).isFalse();
+			session.remove( session.find( Animal.class, 2L ) );
+		} );
+
+		scope.inTransaction(
+				session -> assertThat( session.createSelectionQuery( "from Animal", Animal.class ).getResultList() )
+						.hasSize( 1 )
+		);
+	}
+
+	@Entity(name = "Zoo")
+	public static class Zoo {
+		@Id
+		Long id;
+		@OneToMany(mappedBy = "zoo")
+		List<Animal> animals = new ArrayList<>();
+
+		public Zoo() {
+		}
+
+		public Zoo(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		Long id;
+		@ManyToOne
+		Zoo zoo;
+
+		public Animal() {
+		}
+
+		public Animal(Long id, Zoo zoo) {
+			this.id = id;
+			this.zoo = zoo;
+		}
+	}
+
+	@Entity(name = "Mammal")
+	public static class Mammal extends Animal {
+		int legs;
+
+		public Mammal() {
+		}
+
+		public Mammal(Long id, Zoo zoo, int legs) {
+			super( id, zoo );
+			this.legs = legs;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Mammal {
+		public Dog() {
+		}
+
+		public Dog(Long id, Zoo zoo, int legs) {
+			super( id, zoo, legs );
+		}
+	}
+
+	@Entity(name = "Bird")
+	public static class Bird extends Animal {
+		boolean canFly;
+
+		public Bird() {
+		}
+
+		public Bird(Long id, Zoo zoo, boolean canFly) {
+			super( id, zoo );
+			this.canFly = canFly;
+		}
+	}
+}
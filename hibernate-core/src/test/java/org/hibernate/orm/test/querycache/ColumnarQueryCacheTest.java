@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.sql.results.caching.internal.ColumnarCachedResults;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = ColumnarQueryCacheTest.Measurement.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.USE_COLUMNAR_QUERY_CACHE, value = "true")
+})
+@SessionFactory
+public class ColumnarQueryCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1L, 10, 1.5, "cpu", LocalDate.of( 2024, 1, 1 ) ) );
+			session.persist( new Measurement( 2L, 20, null, "memory", LocalDate.of( 2024, 1, 2 ) ) );
+			session.persist( new Measurement( 3L, null, 3.5, "cpu", null ) );
+			session.persist( new Measurement( 4L, 40, 4.5, null, LocalDate.of( 2024, 1, 4 ) ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictQueryRegions();
+	}
+
+	@Test
+	public void testProjection(SessionFactoryScope scope) {
+		final String hql = "select m.id, m.readings, m.amount, m.category, m.recordedOn from Measurement m order by m.id";
+		final List<Object[]> results = scope.fromSession( session -> session.createSelectionQuery( hql, Object[].class )
+				.setCacheable( true )
+				.getResultList() );
+		final List<Object[]> cachedResults = scope.fromSession( session -> session.createSelectionQuery( hql, Object[].class )
+				.setCacheable( true )
+				.getResultList() );
+
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( cachedResults ).hasSize( 4 );
+		for ( int i = 0; i < results.size(); i++ ) {
+			assertThat( cachedResults.get( i ) ).containsExactly( results.get( i ) );
+		}
+		assertThat( cachedResults.get( 2 ) ).containsExactly( 3L, null, 3.5, "cpu", null );
+	}
+
+	@Test
+	public void testSingleValueProjection(SessionFactoryScope scope) {
+		final String hql = "select m.category from Measurement m order by m.id";
+		for ( int i = 0; i < 2; i++ ) {
+			final List<String> categories = scope.fromSession( session -> session.createSelectionQuery( hql, String.class )
+					.setCacheable( true )
+					.getResultList() );
+			assertThat( categories ).containsExactly( "cpu", "memory", "cpu", null );
+		}
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		final String hql = "from Measurement m where m.category = 'cpu' order by m.id";
+		for ( int i = 0; i < 2; i++ ) {
+			final List<Measurement> measurements = scope.fromSession( session -> session.createSelectionQuery( hql, Measurement.class )
+					.setCacheable( true )
+					.getResultList() );
+			assertThat( measurements ).extracting( m -> m.id ).containsExactly( 1L, 3L );
+		}
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testColumnarEncoding() {
+		final List<Object> data = Arrays.asList(
+				new Object[] { 1L, 1, "a", LocalDate.of( 2024, 1, 1 ) },
+				new Object[] { null, 2, "b", 3 },
+				new Object[] { 3L, null, "a", null },
+				3
+		);
+		final ColumnarCachedResults results = ColumnarCachedResults.from( data, false );
+		assertThat( results ).isNotNull();
+		assertThat( results.getRowCount() ).isEqualTo( 3 );
+		assertThat( results.getResultCount() ).isEqualTo( 3 );
+		assertThat( results.getValue( 1, 0 ) ).isNull();
+		assertThat( results.getValue( 2, 0 ) ).isEqualTo( 3L );
+		assertThat( results.getValue( 2, 1 ) ).isNull();
+		assertThat( results.getValue( 2, 2 ) ).isEqualTo( "a" );
+		assertThat( results.getValue( 0, 3 ) ).isEqualTo( LocalDate.of( 2024, 1, 1 ) );
+		assertThat( results.getValue( 1, 3 ) ).isEqualTo( 3 );
+		assertThat( results ).hasSize( data.size() );
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( (Object[]) results.get( i ) ).containsExactly( (Object[]) data.get( i ) );
+		}
+		assertThat( results.get( 3 ) ).isEqualTo( 3 );
+
+		assertThat( ColumnarCachedResults.from( List.of( 0 ), false ) ).isNull();
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		Long id;
+		Integer readings;
+		Double amount;
+		String category;
+		LocalDate recordedOn;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, Integer readings, Double amount, String category, LocalDate recordedOn) {
+			this.id = id;
+			this.readings = readings;
+			this.amount = amount;
+			this.category = category;
+			this.recordedOn = recordedOn;
+		}
+	}
+}
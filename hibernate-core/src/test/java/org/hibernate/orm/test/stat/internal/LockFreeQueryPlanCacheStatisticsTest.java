@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = LockFreeQueryPlanCacheStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION, value = "lock-free"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10")
+})
+@SessionFactory
+public class LockFreeQueryPlanCacheStatisticsTest {
+
+	@Test
+	public void testHitsMissesAndEvictions(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Statistics statistics = sessionFactory.getStatistics();
+		final QueryInterpretationCache interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		statistics.clear();
+		interpretationCache.close();
+
+		scope.inSession( session -> {
+			session.createQuery( "select e from Employee e", Employee.class );
+			session.createQuery( "select e from Employee e", Employee.class );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheEvictionCount() ).isZero();
+
+			for ( int i = 0; i < 30; i++ ) {
+				session.createQuery( "select e from Employee e where e.id = " + i, Employee.class );
+			}
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 31 );
+			assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThanOrEqualTo( 21 );
+			assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 10 );
+
+			// the most recently used query is still cached
+			session.createQuery( "select e from Employee e where e.id = 29", Employee.class );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
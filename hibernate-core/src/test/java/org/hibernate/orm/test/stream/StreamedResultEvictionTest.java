@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stream;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = { StreamedResultEvictionTest.Book.class, StreamedResultEvictionTest.Author.class })
+@SessionFactory
+public class StreamedResultEvictionTest {
+	private static final int BOOKS = 50;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < BOOKS; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "book " + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testStreamedEntitiesAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (Stream<Book> stream = session.createQuery( "from Book b join fetch b.author order by b.id", Book.class )
+					.setHint( HibernateHints.HINT_EVICT_STREAMED_RESULTS, true )
+					.getResultStream()) {
+				final long[] count = { 0 };
+				stream.forEach( book -> {
+					assertThat( session.contains( book ) ).isTrue();
+					assertThat( session.contains( book.author ) ).isTrue();
+					assertThat( book.author.name ).isEqualTo( "author " + book.id );
+					// only the entities of the current row are managed
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 2 );
+					count[0]++;
+				} );
+				assertThat( count[0] ).isEqualTo( BOOKS );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isZero();
+		} );
+	}
+
+	@Test
+	public void testLastRowEvictedOnClose(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (Stream<Book> stream = session.createQuery( "from Book b join fetch b.author order by b.id", Book.class )
+					.setHint( HibernateHints.HINT_EVICT_STREAMED_RESULTS, true )
+					.getResultStream()) {
+				final Book book = stream.findFirst().orElseThrow();
+				assertThat( session.contains( book ) ).isTrue();
+				assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 2 );
+			}
+			// the stream was closed before moving past the first row
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isZero();
+		} );
+	}
+
+	@Test
+	public void testAlreadyManagedEntitiesAreNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 3L );
+			try (Stream<Author> stream = session.createQuery( "from Author order by id", Author.class )
+					.setHint( HibernateHints.HINT_EVICT_STREAMED_RESULTS, true )
+					.getResultStream()) {
+				final List<Author> authors = stream.toList();
+				assertThat( authors ).hasSize( BOOKS );
+				assertThat( authors.get( 3 ) ).isSameAs( author );
+				assertThat( session.contains( authors.get( 2 ) ) ).isFalse();
+			}
+			assertThat( session.contains( author ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testEvictionDoesNotCascade(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 3L );
+			try (Stream<Book> stream = session.createQuery( "from Book b join fetch b.author order by b.id", Book.class )
+					.setHint( HibernateHints.HINT_EVICT_STREAMED_RESULTS, true )
+					.getResultStream()) {
+				final List<Book> books = stream.toList();
+				assertThat( books ).hasSize( BOOKS );
+				assertThat( books.get( 3 ).author ).isSameAs( author );
+				assertThat( session.contains( books.get( 3 ) ) ).isFalse();
+			}
+			assertThat( session.contains( author ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testWithoutHint(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (Stream<Book> stream = session.createQuery( "from Book order by id", Book.class ).getResultStream()) {
+				assertThat( stream.count() ).isEqualTo( BOOKS );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 2 * BOOKS );
+		} );
+	}
+
+	@Test
+	public void testOnlyForwardScrolling(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (ScrollableResults<Book> results = session.createQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_EVICT_STREAMED_RESULTS, true )
+					.scroll( ScrollMode.FORWARD_ONLY )) {
+				assertThat( results.next() ).isTrue();
+				assertThatThrownBy( results::previous ).isInstanceOf( UnsupportedOperationException.class );
+			}
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		@ManyToOne(cascade = CascadeType.DETACH)
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
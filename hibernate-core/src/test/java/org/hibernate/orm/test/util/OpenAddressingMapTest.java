@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class OpenAddressingMapTest {
+
+	/**
+	 * A key with a poor hash, forcing long probe sequences
+	 */
+	private record CollidingKey(int value) {
+		@Override
+		public int hashCode() {
+			return value % 3;
+		}
+	}
+
+	@Test
+	public void testSimpleMapOperations() {
+		final OpenAddressingMap<Long, String> map = new OpenAddressingMap<>();
+		map.put( 1L, "one" );
+		map.putIfAbsent( 2L, "two" );
+		map.putAll( Map.of( 3L, "three" ) );
+		assertThat( map ).hasSize( 3 ).containsKeys( 1L, 2L, 3L )
+				.containsValues( "one", "two", "three" );
+
+		assertThat( map.put( 3L, "THREE" ) ).isEqualTo( "three" );
+		assertThat( map ).hasSize( 3 ).contains( entry( 3L, "THREE" ) );
+
+		assertThat( map.remove( 1L ) ).isEqualTo( "one" );
+		assertThat( map.remove( 1L ) ).isNull();
+		assertThat( map ).hasSize( 2 ).doesNotContainKeys( 1L );
+
+		map.put( 4L, null );
+		assertThat( map ).hasSize( 3 ).containsKey( 4L );
+		assertThat( map.get( 4L ) ).isNull();
+
+		map.clear();
+		assertThat( map ).isEmpty();
+		assertThat( map.get( 2L ) ).isNull();
+	}
+
+	@Test
+	public void testNullKey() {
+		final OpenAddressingMap<String, String> map = new OpenAddressingMap<>();
+		assertThat( map.get( null ) ).isNull();
+		assertThat( map.containsKey( null ) ).isFalse();
+		assertThatThrownBy( () -> map.put( null, "value" ) ).isInstanceOf( NullPointerException.class );
+	}
+
+	@Test
+	public void testCollisions() {
+		final OpenAddressingMap<CollidingKey, Integer> map = new OpenAddressingMap<>( 2 );
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		for ( int i = 0; i < 1000; i += 2 ) {
+			assertThat( map.remove( new CollidingKey( i ) ) ).isEqualTo( i );
+		}
+		assertThat( map ).hasSize( 500 );
+		for ( int i = 0; i < 1000; i++ ) {
+			assertThat( map.get( new CollidingKey( i ) ) ).isEqualTo( i % 2 == 0 ? null : i );
+		}
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		final OpenAddressingMap<Integer, String> map = new OpenAddressingMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( i, "value_" + i );
+		}
+
+		int visited = 0;
+		final Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			final Map.Entry<Integer, String> entry = iterator.next();
+			visited++;
+			if ( entry.getKey() % 2 == 0 ) {
+				iterator.remove();
+			}
+			else {
+				entry.setValue( "odd_" + entry.getKey() );
+			}
+		}
+
+		assertThat( visited ).isEqualTo( 100 );
+		assertThat( map ).hasSize( 50 );
+		map.forEach( (k, v) -> assertThat( v ).isEqualTo( "odd_" + k ) );
+	}
+
+	@Test
+	public void testFailFastIteration() {
+		final OpenAddressingMap<Integer, String> map = new OpenAddressingMap<>();
+		map.put( 1, "one" );
+		map.put( 2, "two" );
+		final Iterator<Integer> iterator = map.keySet().iterator();
+		iterator.next();
+		map.put( 3, "three" );
+		assertThatThrownBy( iterator::next ).isInstanceOf( ConcurrentModificationException.class );
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final OpenAddressingMap<Integer, Integer> map = new OpenAddressingMap<>();
+		final Map<Integer, Integer> expected = new HashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			final int key = random.nextInt( 5_000 );
+			switch ( random.nextInt( 3 ) ) {
+				case 0 -> assertThat( map.put( key, i ) ).isEqualTo( expected.put( key, i ) );
+				case 1 -> assertThat( map.remove( key ) ).isEqualTo( expected.remove( key ) );
+				default -> assertThat( map.get( key ) ).isEqualTo( expected.get( key ) );
+			}
+		}
+		assertThat( map ).isEqualTo( expected );
+		assertThat( map.keySet() ).containsExactlyInAnyOrderElementsOf( expected.keySet() );
+		assertThat( map.entrySet() ).containsExactlyInAnyOrderElementsOf( expected.entrySet() );
+	}
+}
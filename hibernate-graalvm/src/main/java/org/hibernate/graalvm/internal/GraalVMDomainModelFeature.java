@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graalvm.internal;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.mapping.PersistentClass;
+
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeReflection;
+
+/**
+ * A GraalVM feature which runs the Hibernate boot process while the native image is
+ * being built, and registers the classes of the resulting domain model for reflection:
+ * the entity classes, their proxy interfaces, the embeddable classes, and all their
+ * superclasses, along with their constructors, fields and methods.
+ * <p>
+ * This automates the part of the registration which {@link GraalVMStaticFeature}
+ * cannot know about.  The domain model is read from the configuration resource named
+ * by the {@value #CONFIGURATION_RESOURCE} system property of the image build, by default
+ * {@code hibernate.cfg.xml}; the feature does nothing if there is no such resource.
+ * <p>
+ * The boot process runs without access to the database, and so the configuration must
+ * specify the {@linkplain org.hibernate.cfg.JdbcSettings#DIALECT dialect}.
+ * <p>
+ * Only the reflection registrations are computed at image build time: the mapping model
+ * is still resolved, and its SQL rendered, when the {@code SessionFactory} is built at
+ * run time.
+ * <p>
+ * Along with {@link GraalVMStaticFeature}, this feature is enabled by the
+ * {@code native-image.properties} of this module whenever it is on the image class path.
+ */
+public class GraalVMDomainModelFeature implements Feature {
+	/**
+	 * The system property naming the configuration resource which lists the domain model.
+	 */
+	public static final String CONFIGURATION_RESOURCE = "hibernate.graalvm.cfg_xml";
+
+	private static final String DEFAULT_CONFIGURATION_RESOURCE = "hibernate.cfg.xml";
+
+	@Override
+	public void beforeAnalysis(Feature.BeforeAnalysisAccess before) {
+		final ClassLoader classLoader = before.getApplicationClassLoader();
+		final String resource = System.getProperty( CONFIGURATION_RESOURCE, DEFAULT_CONFIGURATION_RESOURCE );
+		if ( classLoader.getResource( resource ) == null ) {
+			return;
+		}
+
+		final BootstrapServiceRegistry bootstrapRegistry =
+				new BootstrapServiceRegistryBuilder().applyClassLoader( classLoader ).build();
+		try ( StandardServiceRegistry registry = new StandardServiceRegistryBuilder( bootstrapRegistry )
+				.configure( resource )
+				.applySetting( JdbcSettings.ALLOW_METADATA_ON_BOOT, false )
+				.build() ) {
+			final MetadataImplementor metadata =
+					(MetadataImplementor) new MetadataSources( registry ).buildMetadata();
+			register( domainModelClasses( metadata ) );
+		}
+	}
+
+	/**
+	 * The classes of the domain model, including their superclasses.
+	 */
+	static Set<Class<?>> domainModelClasses(MetadataImplementor metadata) {
+		final Set<Class<?>> classes = new LinkedHashSet<>();
+		for ( PersistentClass entityBinding : metadata.getEntityBindings() ) {
+			// dynamic-map entities have no class
+			addWithSuperclasses( entityBinding.getMappedClass(), classes );
+			addWithSuperclasses( entityBinding.getProxyInterface(), classes );
+		}
+		metadata.visitRegisteredComponents( component -> {
+			if ( !component.isDynamic() ) {
+				addWithSuperclasses( component.getComponentClass(), classes );
+			}
+		} );
+		return classes;
+	}
+
+	private static void addWithSuperclasses(Class<?> type, Set<Class<?>> classes) {
+		for ( Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass() ) {
+			if ( !classes.add( current ) ) {
+				break;
+			}
+		}
+	}
+
+	private static void register(Set<Class<?>> classes) {
+		final List<Executable> executables = new ArrayList<>();
+		final List<Field> fields = new ArrayList<>();
+		for ( Class<?> type : classes ) {
+			executables.addAll( List.of( type.getDeclaredConstructors() ) );
+			executables.addAll( List.of( type.getDeclaredMethods() ) );
+			fields.addAll( List.of( type.getDeclaredFields() ) );
+		}
+		RuntimeReflection.register( classes.toArray( new Class<?>[0] ) );
+		RuntimeReflection.register( executables.toArray( new Executable[0] ) );
+		RuntimeReflection.register( fields.toArray( new Field[0] ) );
+	}
+
+	@Override
+	public String getDescription() {
+		return "Hibernate ORM's reflection registrations for the domain model, for GraalVM";
+	}
+}
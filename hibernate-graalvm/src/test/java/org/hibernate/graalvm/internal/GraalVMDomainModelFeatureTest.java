@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.graalvm.internal;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GraalVMDomainModelFeatureTest {
+
+	@Test
+	void domainModelClasses() {
+		try ( StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( JdbcSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( JdbcSettings.ALLOW_METADATA_ON_BOOT, false )
+				.build() ) {
+			final MetadataImplementor metadata = (MetadataImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata();
+			assertThat( GraalVMDomainModelFeature.domainModelClasses( metadata ) )
+					.containsExactlyInAnyOrder( Book.class, Publication.class, Isbn.class );
+		}
+	}
+
+	@MappedSuperclass
+	public static class Publication {
+		@Id
+		Long id;
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Publication {
+		@Embedded
+		Isbn isbn;
+	}
+
+	@Embeddable
+	public static class Isbn {
+		String value;
+	}
+}
@@ -42,4 +42,27 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * The maximum number of entries kept in a local near-cache in front of the JCache
+	 * {@link javax.cache.Cache} of each entity, collection and natural id region, so that
+	 * repeated reads of the same entries need not reach a remote cache.  Since changes
+	 * made by other nodes are only seen once the entries {@linkplain #NEAR_CACHE_TIME_TO_LIVE
+	 * expire}, near-caching is meant for read-mostly data.  Near-caching is only enabled
+	 * when {@link #NEAR_CACHE_TIME_TO_LIVE} is set as well.
+	 *
+	 * Default value is {@code 0}, which disables near-caching.
+	 *
+	 * @see org.hibernate.cache.jcache.internal.NearCacheAccessImpl
+	 */
+	String NEAR_CACHE_MAX_ENTRIES = PROP_PREFIX + "near_cache.max_entries";
+
+	/**
+	 * The time, in milliseconds, for which an entry stays in a near-cache.  This bounds
+	 * the time during which a change made to the cache by another node goes unnoticed,
+	 * and must therefore be chosen explicitly, along with {@link #NEAR_CACHE_MAX_ENTRIES}.
+	 *
+	 * Default value is {@code 0}, which disables near-caching.
+	 */
+	String NEAR_CACHE_TIME_TO_LIVE = PROP_PREFIX + "near_cache.time_to_live";
 }
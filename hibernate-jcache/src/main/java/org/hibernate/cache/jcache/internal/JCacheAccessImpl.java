@@ -4,6 +4,7 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Map;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -41,6 +42,11 @@ public void putIntoCache(Object key, Object value, SharedSessionContractImplemen
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( values );
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
@@ -33,6 +33,8 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 
 /**
  * @author Alex Snaps
@@ -43,6 +45,9 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
 
+	private volatile int nearCacheMaxEntries;
+	private volatile long nearCacheTimeToLive;
+
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
 		this( DefaultCacheKeysFactory.INSTANCE );
@@ -78,9 +83,12 @@ public DomainDataRegion buildDomainDataRegion(
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
-		return new JCacheAccessImpl(
-				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
-		);
+		final Cache<Object, Object> cache =
+				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() );
+		// a near-cache must be bounded both in size and in staleness
+		return nearCacheMaxEntries > 0 && nearCacheTimeToLive > 0
+				? new NearCacheAccessImpl( cache, nearCacheMaxEntries, nearCacheTimeToLive )
+				: new JCacheAccessImpl( cache );
 	}
 
 	protected Cache<Object, Object> getOrCreateCache(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
@@ -190,6 +198,8 @@ protected void prepareForUse(SessionFactoryOptions settings, Map<String,Object>
 		this.missingCacheStrategy = MissingCacheStrategy.interpretSetting(
 				getProp( configValues, ConfigSettings.MISSING_CACHE_STRATEGY )
 		);
+		this.nearCacheMaxEntries = getInt( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, configValues, 0 );
+		this.nearCacheTimeToLive = getLong( ConfigSettings.NEAR_CACHE_TIME_TO_LIVE, configValues, 0 );
 	}
 
 	protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String,Object> properties) {
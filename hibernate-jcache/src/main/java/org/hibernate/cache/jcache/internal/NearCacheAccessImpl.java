@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.cache.Cache;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ApproximateLruConcurrentMap;
+
+/**
+ * {@link JCacheAccessImpl} keeping the most recently used entries of the underlying
+ * {@link Cache} in a bounded local near-cache, so that repeated reads of the same entries
+ * do not need to reach a remote cache.
+ * <p>
+ * The near-cache is kept consistent with the writes, removals and evictions performed
+ * through this storage access.  Entity and collection changes update or remove the
+ * affected keys only, and bulk operations evict the whole region, which also clears the
+ * near-cache.  Changes made to the underlying cache by other nodes are not seen until
+ * the near-cache entry expires, so that near-caching is best suited to read-mostly
+ * regions.
+ *
+ * @see org.hibernate.cache.jcache.ConfigSettings#NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cache.jcache.ConfigSettings#NEAR_CACHE_TIME_TO_LIVE
+ */
+public class NearCacheAccessImpl extends JCacheAccessImpl {
+	private final ApproximateLruConcurrentMap<Object, NearEntry> nearCache;
+	private final long timeToLive;
+
+	// incremented by every modification, so that a value read from the underlying
+	// cache concurrently with a modification is not kept in the near-cache
+	private final AtomicLong modifications = new AtomicLong();
+
+	/**
+	 * @param maxEntries the maximum number of entries of the near-cache
+	 * @param timeToLive the time, in milliseconds, for which entries stay in the near-cache
+	 */
+	public NearCacheAccessImpl(Cache underlyingCache, int maxEntries, long timeToLive) {
+		super( underlyingCache );
+		this.nearCache = new ApproximateLruConcurrentMap<>( maxEntries );
+		this.timeToLive = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final NearEntry entry = nearCache.get( key );
+		if ( entry != null ) {
+			if ( !isExpired( entry ) ) {
+				return entry.value;
+			}
+			nearCache.remove( key, entry );
+		}
+
+		final long modificationCount = modifications.get();
+		final Object value = super.getFromCache( key, session );
+		if ( value != null ) {
+			final NearEntry newEntry = newEntry( value );
+			nearCache.put( key, newEntry );
+			if ( modifications.get() != modificationCount ) {
+				// the value may already be stale
+				nearCache.remove( key, newEntry );
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		super.putIntoCache( key, value, session );
+		modifications.incrementAndGet();
+		nearCache.put( key, newEntry( value ) );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		super.putAllIntoCache( values, session );
+		modifications.incrementAndGet();
+		for ( Map.Entry<?, ?> entry : values.entrySet() ) {
+			nearCache.put( entry.getKey(), newEntry( entry.getValue() ) );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		super.removeFromCache( key, session );
+		modifications.incrementAndGet();
+		nearCache.remove( key );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		super.evictData( key );
+		modifications.incrementAndGet();
+		nearCache.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		super.clearCache( session );
+		evictNearCache();
+	}
+
+	@Override
+	public void evictData() {
+		super.evictData();
+		evictNearCache();
+	}
+
+	/**
+	 * Evict all the entries of the near-cache, but not of the underlying cache.
+	 */
+	public void evictNearCache() {
+		modifications.incrementAndGet();
+		nearCache.clear();
+	}
+
+	@Override
+	public void release() {
+		nearCache.clear();
+		super.release();
+	}
+
+	private NearEntry newEntry(Object value) {
+		return new NearEntry( value, System.nanoTime() + timeToLive );
+	}
+
+	private boolean isExpired(NearEntry entry) {
+		return System.nanoTime() - entry.expiry > 0;
+	}
+
+	private record NearEntry(Object value, long expiry) {
+	}
+}
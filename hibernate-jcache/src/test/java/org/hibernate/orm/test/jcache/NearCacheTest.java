@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jcache;
+
+import javax.cache.Cache;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.NearCacheAccessImpl;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.test.jcache.domain.Item;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hibernate.testing.transaction.TransactionUtil2.inSession;
+import static org.hibernate.testing.transaction.TransactionUtil2.inTransaction;
+
+/**
+ * Tests around {@link NearCacheAccessImpl}
+ */
+@BaseUnitTest
+@SuppressWarnings("unchecked")
+public class NearCacheTest {
+
+	@Test
+	public void testNearCacheServesRepeatedReads() {
+		TestHelper.preBuildAllCaches();
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			final NearCacheAccessImpl access = nearCacheAccess( sessionFactory );
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						assertThat( jcache.get( "key" ), equalTo( "value" ) );
+
+						// a change made by another node is not seen
+						jcache.put( "key", "other" );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+
+						access.removeFromCache( "key", s );
+						assertThat( jcache.get( "key" ), nullValue() );
+						assertThat( access.getFromCache( "key", s ), nullValue() );
+
+						jcache.put( "key", "value" );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+						jcache.put( "key", "other" );
+						access.evictData( "key" );
+						assertThat( access.getFromCache( "key", s ), nullValue() );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testNearCacheEvictedByBulkOperation() {
+		TestHelper.preBuildAllCaches();
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			final NearCacheAccessImpl access = nearCacheAccess( sessionFactory );
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						access.putIntoCache( "key", "value", s );
+						jcache.put( "key", "other" );
+
+						// the update timestamps alone do not clear the near-cache
+						final String table = sessionFactory.getMappingMetamodel()
+								.getEntityDescriptor( Item.class )
+								.getSynchronizationSpaces()[0];
+						sessionFactory.getCache().getTimestampsCache().getRegion()
+								.putIntoCache( table, sessionFactory.getCache().getRegionFactory().nextTimestamp(), s );
+						assertThat( access.getFromCache( "key", s ), equalTo( "value" ) );
+					}
+			);
+
+			inTransaction(
+					sessionFactory,
+					s -> s.createMutationQuery( "update Item set name = 'updated'" ).executeUpdate()
+			);
+
+			inSession(
+					sessionFactory,
+					s -> assertThat( access.getFromCache( "key", s ), nullValue() )
+			);
+		}
+	}
+
+	@Test
+	public void testNearCacheRequiresTimeToLive() {
+		TestHelper.preBuildAllCaches();
+		try ( SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory(
+				builder -> builder.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "100" )
+		) ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+			assertThat(
+					( (DomainDataRegionTemplate) region ).getCacheStorageAccess(),
+					not( instanceOf( NearCacheAccessImpl.class ) )
+			);
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory() {
+		return TestHelper.buildStandardSessionFactory(
+				builder -> builder.applySetting( ConfigSettings.NEAR_CACHE_MAX_ENTRIES, "100" )
+						.applySetting( ConfigSettings.NEAR_CACHE_TIME_TO_LIVE, "60000" )
+		);
+	}
+
+	private static NearCacheAccessImpl nearCacheAccess(SessionFactoryImplementor sessionFactory) {
+		final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+		final Object access = ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+		assertThat( access, instanceOf( NearCacheAccessImpl.class ) );
+		return (NearCacheAccessImpl) access;
+	}
+}
@@ -50,6 +50,10 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionRecreateEventType = EventType.getEventType( CollectionRecreateEvent.class );
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
+	private static final EventType queryInterpretationEventType = EventType.getEventType( QueryInterpretationEvent.class );
+	private static final EventType sqmTranslationEventType = EventType.getEventType( SqmTranslationEvent.class );
+	private static final EventType sqlRenderingEventType = EventType.getEventType( SqlRenderingEvent.class );
+	private static final EventType resultHydrationEventType = EventType.getEventType( ResultHydrationEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -779,6 +783,122 @@ public void completeCollectionRemoveEvent(
 		}
 	}
 
+	@Override
+	public DiagnosticEvent beginQueryInterpretationEvent() {
+		if ( queryInterpretationEventType.isEnabled() ) {
+			final QueryInterpretationEvent event = new QueryInterpretationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeQueryInterpretationEvent(
+			DiagnosticEvent event,
+			String hql,
+			boolean cacheHit,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final QueryInterpretationEvent queryInterpretationEvent = (QueryInterpretationEvent) event;
+			queryInterpretationEvent.end();
+			if ( queryInterpretationEvent.shouldCommit() ) {
+				queryInterpretationEvent.sessionIdentifier = getSessionIdentifier( session );
+				queryInterpretationEvent.hql = hql;
+				queryInterpretationEvent.cacheHit = cacheHit;
+				queryInterpretationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginSqmTranslationEvent() {
+		if ( sqmTranslationEventType.isEnabled() ) {
+			final SqmTranslationEvent event = new SqmTranslationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqmTranslationEvent(
+			DiagnosticEvent event,
+			String hql,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final SqmTranslationEvent sqmTranslationEvent = (SqmTranslationEvent) event;
+			sqmTranslationEvent.end();
+			if ( sqmTranslationEvent.shouldCommit() ) {
+				sqmTranslationEvent.sessionIdentifier = getSessionIdentifier( session );
+				sqmTranslationEvent.hql = hql;
+				sqmTranslationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginSqlRenderingEvent() {
+		if ( sqlRenderingEventType.isEnabled() ) {
+			final SqlRenderingEvent event = new SqlRenderingEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqlRenderingEvent(
+			DiagnosticEvent event,
+			String sql,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final SqlRenderingEvent sqlRenderingEvent = (SqlRenderingEvent) event;
+			sqlRenderingEvent.end();
+			if ( sqlRenderingEvent.shouldCommit() ) {
+				sqlRenderingEvent.sessionIdentifier = getSessionIdentifier( session );
+				sqlRenderingEvent.sql = sql;
+				sqlRenderingEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginResultHydrationEvent() {
+		if ( resultHydrationEventType.isEnabled() ) {
+			final ResultHydrationEvent event = new ResultHydrationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeResultHydrationEvent(
+			DiagnosticEvent event,
+			int rowCount,
+			int resultCount,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final ResultHydrationEvent resultHydrationEvent = (ResultHydrationEvent) event;
+			resultHydrationEvent.end();
+			if ( resultHydrationEvent.shouldCommit() ) {
+				resultHydrationEvent.sessionIdentifier = getSessionIdentifier( session );
+				resultHydrationEvent.rowCount = rowCount;
+				resultHydrationEvent.resultCount = resultCount;
+				resultHydrationEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		if ( session == null ) {
 			return null;
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ResultHydrationEvent.NAME)
+@Label("Result Hydration")
+@Category("Hibernate ORM")
+@Description("Reading of the rows of a JDBC ResultSet into the results of a query")
+@StackTrace
+@AllowNonPortable
+public class ResultHydrationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.ResultHydrationEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Row Count")
+	public int rowCount;
+
+	@Label("Result Count")
+	public int resultCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SqmTranslationEvent.NAME)
+@Label("SQM Translation")
+@Category("Hibernate ORM")
+@Description("Translation of the SQM tree of a query to a SQL AST")
+@StackTrace
+@AllowNonPortable
+public class SqmTranslationEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.SqmTranslationEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Query")
+	public String hql;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.event.jfr.internal.QueryInterpretationEvent;
+import org.hibernate.event.jfr.internal.ResultHydrationEvent;
+import org.hibernate.event.jfr.internal.SqlRenderingEvent;
+import org.hibernate.event.jfr.internal.SqmTranslationEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		QueryEventTests.TestEntity.class,
+})
+@SessionFactory
+public class QueryEventTests {
+	private static final String HQL = "from TestEntity e where e.name like 'name%' order by e.id";
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new TestEntity( 1, "name_1" ) );
+					session.persist( new TestEntity( 2, "name_2" ) );
+					session.persist( new TestEntity( 3, "other" ) );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(QueryInterpretationEvent.NAME)
+	@EnableEvent(SqmTranslationEvent.NAME)
+	@EnableEvent(SqlRenderingEvent.NAME)
+	@EnableEvent(ResultHydrationEvent.NAME)
+	public void testQueryEvents(SessionFactoryScope scope) {
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		jfrEvents.reset();
+		final String firstSessionId = scope.fromTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( HQL, TestEntity.class ).getResultList() ).hasSize( 2 );
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		final String secondSessionId = scope.fromTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( HQL, TestEntity.class ).getResultList() ).hasSize( 2 );
+					return session.getSessionIdentifier().toString();
+				}
+		);
+
+		final List<RecordedEvent> interpretationEvents = events( QueryInterpretationEvent.NAME );
+		assertThat( interpretationEvents ).hasSize( 2 );
+		assertThat( interpretationEvents.get( 0 ).getString( "sessionIdentifier" ) ).isEqualTo( firstSessionId );
+		assertThat( interpretationEvents.get( 0 ).getString( "hql" ) ).isEqualTo( HQL );
+		assertThat( interpretationEvents.get( 0 ).getBoolean( "cacheHit" ) ).isFalse();
+		assertThat( interpretationEvents.get( 1 ).getString( "sessionIdentifier" ) ).isEqualTo( secondSessionId );
+		assertThat( interpretationEvents.get( 1 ).getBoolean( "cacheHit" ) ).isTrue();
+
+		final List<RecordedEvent> translationEvents = events( SqmTranslationEvent.NAME );
+		assertThat( translationEvents ).isNotEmpty();
+		assertThat( translationEvents.get( 0 ).getString( "sessionIdentifier" ) ).isEqualTo( firstSessionId );
+		assertThat( translationEvents.get( 0 ).getString( "hql" ) ).isEqualTo( HQL );
+
+		final List<RecordedEvent> renderingEvents = events( SqlRenderingEvent.NAME );
+		assertThat( renderingEvents ).isNotEmpty();
+		assertThat( renderingEvents.get( 0 ).getString( "sessionIdentifier" ) ).isEqualTo( firstSessionId );
+		assertThat( renderingEvents.get( 0 ).getString( "sql" ) ).containsIgnoringCase( "select" );
+
+		final List<RecordedEvent> hydrationEvents = events( ResultHydrationEvent.NAME );
+		assertThat( hydrationEvents ).hasSize( 2 );
+		for ( RecordedEvent event : hydrationEvents ) {
+			assertThat( event.getInt( "rowCount" ) ).isEqualTo( 2 );
+			assertThat( event.getInt( "resultCount" ) ).isEqualTo( 2 );
+		}
+		assertThat( hydrationEvents.get( 1 ).getString( "sessionIdentifier" ) ).isEqualTo( secondSessionId );
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+}
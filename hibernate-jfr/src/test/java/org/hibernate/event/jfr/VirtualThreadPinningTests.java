@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that loading and flushing entities from virtual threads never
+ * pins the carrier thread while blocked in Hibernate code.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DomainModel(annotatedClasses = VirtualThreadPinningTests.Item.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.POOL_SIZE, value = "10"))
+@SessionFactory
+public class VirtualThreadPinningTests {
+	private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+	// the JDBC drivers which pin the carrier thread within their own synchronized code
+	private static final List<String> PINNING_DRIVER_PACKAGES = List.of( "org.h2." );
+
+	// at most one connection per thread, as many as the connection pool holds
+	private static final int THREADS = 10;
+	private static final int ITERATIONS = 20;
+
+	@Test
+	public void testConcurrentLoadAndFlush(SessionFactoryScope scope) throws Exception {
+		final List<RecordedEvent> events;
+		try ( Recording recording = new Recording() ) {
+			recording.enable( VIRTUAL_THREAD_PINNED ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+
+			// the tests are not necessarily compiled for a JDK with virtual threads
+			final ExecutorService executor = (ExecutorService) Executors.class
+					.getMethod( "newVirtualThreadPerTaskExecutor" )
+					.invoke( null );
+			try {
+				final List<Future<?>> futures = new ArrayList<>();
+				for ( int i = 0; i < THREADS; i++ ) {
+					futures.add( executor.submit( () -> runWorkload( scope ) ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get();
+				}
+			}
+			finally {
+				executor.shutdown();
+			}
+
+			recording.stop();
+			final Path dump = Files.createTempFile( "virtual-thread-pinning", ".jfr" );
+			try {
+				recording.dump( dump );
+				events = RecordingFile.readAllEvents( dump );
+			}
+			finally {
+				Files.delete( dump );
+			}
+		}
+
+		final List<String> pinnedInHibernate = events.stream()
+				.filter( event -> event.getEventType().getName().equals( VIRTUAL_THREAD_PINNED ) )
+				.filter( VirtualThreadPinningTests::isPinnedInHibernate )
+				.map( event -> event.getStackTrace().toString() )
+				.toList();
+		assertThat( pinnedInHibernate ).isEmpty();
+	}
+
+	private static void runWorkload(SessionFactoryScope scope) {
+		for ( int i = 0; i < ITERATIONS; i++ ) {
+			final Long id = scope.fromTransaction( session -> {
+				final Item item = new Item();
+				item.name = "item";
+				session.persist( item );
+				session.flush();
+				return item.id;
+			} );
+			scope.inTransaction( session -> {
+				final Item item = session.find( Item.class, id );
+				item.name = "updated item";
+				session.flush();
+				session.createSelectionQuery( "from Item where name = :name", Item.class )
+						.setParameter( "name", "updated item" )
+						.getResultList();
+			} );
+		}
+	}
+
+	/**
+	 * Whether any frame of the pinned stack belongs to Hibernate, unless the carrier
+	 * thread was pinned within one of the {@linkplain #PINNING_DRIVER_PACKAGES JDBC
+	 * drivers known to pin it on their own}, which is not something Hibernate can do
+	 * anything about.
+	 */
+	private static boolean isPinnedInHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		final List<RecordedFrame> frames = event.getStackTrace().getFrames();
+		return frames.stream().anyMatch( frame -> typeName( frame ).startsWith( "org.hibernate." ) )
+			&& !isPinnedInDriver( frames );
+	}
+
+	/**
+	 * Whether the innermost frame outside the JDK belongs to a JDBC driver known to pin.
+	 */
+	private static boolean isPinnedInDriver(List<RecordedFrame> frames) {
+		for ( RecordedFrame frame : frames ) {
+			final String className = typeName( frame );
+			if ( !className.startsWith( "java." )
+					&& !className.startsWith( "jdk." )
+					&& !className.startsWith( "sun." ) ) {
+				return PINNING_DRIVER_PACKAGES.stream().anyMatch( className::startsWith );
+			}
+		}
+		return false;
+	}
+
+	private static String typeName(RecordedFrame frame) {
+		return frame.getMethod().getType().getName();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+	}
+}
@@ -335,6 +335,9 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry, "hibernate.cache.query.plan.evictions", "The global number of query plans evicted from cache",
+				Statistics::getQueryPlanCacheEvictionCount
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {